@@ -0,0 +1,15 @@
+package com.example.stayfinder.config;
+
+import java.util.Currency;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MoneyConfig {
+    @Bean
+    public Currency defaultCurrency(@Value("${stripe.default.currency}") String currencyCode) {
+        return Currency.getInstance(currencyCode.toUpperCase(Locale.ROOT));
+    }
+}
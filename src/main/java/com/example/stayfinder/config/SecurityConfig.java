@@ -2,6 +2,8 @@ package com.example.stayfinder.config;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import com.example.stayfinder.security.BasicCredentialCache;
+import com.example.stayfinder.security.CachingDaoAuthenticationProvider;
 import com.example.stayfinder.security.JwtAuthFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -22,6 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtAuthFilter jwtAuthFilter;
+    private final BasicCredentialCache basicCredentialCache;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -38,6 +41,8 @@ public class SecurityConfig {
                         auth -> auth
                                 .requestMatchers(
                                         "/auth/**",
+                                        "/payments/webhook",
+                                        "/telegram/webhook",
                                         "/error",
                                         "/swagger-ui/**",
                                         "/v3/api-docs/**")
@@ -49,7 +54,8 @@ public class SecurityConfig {
                 .sessionManagement(session
                         -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
-                .userDetailsService(userDetailsService)
+                .authenticationProvider(new CachingDaoAuthenticationProvider(
+                        userDetailsService, passwordEncoder(), basicCredentialCache))
                 .build();
     }
 
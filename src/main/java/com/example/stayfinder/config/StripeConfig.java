@@ -1,9 +1,10 @@
 package com.example.stayfinder.config;
 
+import com.example.stayfinder.model.Money;
 import com.stripe.Stripe;
 import com.stripe.param.checkout.SessionCreateParams;
 import jakarta.annotation.PostConstruct;
-import java.math.BigDecimal;
+import java.util.Locale;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -22,17 +23,13 @@ public class StripeConfig {
     private String sessionRequestParam;
     @Value("${stripe.default.quantity}")
     private long defaultQuantity;
-    @Value("${stripe.default.currency}")
-    private String defaultCurrency;
-    @Value("${stripe.cents.amount}")
-    private BigDecimal centsAmount;
 
     @PostConstruct
     public void init() {
         Stripe.apiKey = stripeSecretKey;
     }
 
-    public SessionCreateParams createSessionParams(BigDecimal totalAmount) {
+    public SessionCreateParams createSessionParams(Money totalAmount) {
         return SessionCreateParams.builder()
                 .setMode(SessionCreateParams.Mode.PAYMENT)
                 .setCancelUrl(buildUrlWithSessionId(cancelUrl))
@@ -41,17 +38,17 @@ public class StripeConfig {
                 .build();
     }
 
-    private SessionCreateParams.LineItem.PriceData createPriceData(BigDecimal totalAmount) {
+    private SessionCreateParams.LineItem.PriceData createPriceData(Money totalAmount) {
         return SessionCreateParams.LineItem.PriceData.builder()
-                .setCurrency(defaultCurrency)
-                .setUnitAmount(totalAmount.multiply(centsAmount).longValue())
+                .setCurrency(totalAmount.currency().getCurrencyCode().toLowerCase(Locale.ROOT))
+                .setUnitAmount(totalAmount.amount())
                 .setProductData(SessionCreateParams.LineItem.PriceData.ProductData.builder()
                         .setName("Booking Payment")
                         .build())
                 .build();
     }
 
-    private SessionCreateParams.LineItem createLineItem(BigDecimal totalAmount) {
+    private SessionCreateParams.LineItem createLineItem(Money totalAmount) {
         return SessionCreateParams.LineItem.builder()
                 .setPriceData(createPriceData(totalAmount))
                 .setQuantity(defaultQuantity)
@@ -1,6 +1,9 @@
 package com.example.stayfinder.config;
 
 import com.example.stayfinder.service.telegram.TelegramBot;
+import com.example.stayfinder.service.telegram.TelegramPollingBot;
+import com.example.stayfinder.service.telegram.TelegramUpdatePipeline;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
@@ -10,10 +13,13 @@ import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 @Configuration
 public class TelegramBotConfig {
     @Bean
-    public TelegramBotsApi telegramBotsApi(TelegramBot telegramBot) {
+    @ConditionalOnProperty(name = "bot.mode", havingValue = "polling", matchIfMissing = true)
+    public TelegramBotsApi telegramBotsApi(TelegramBot telegramBot,
+                                           TelegramUpdatePipeline telegramUpdatePipeline) {
         try {
             TelegramBotsApi telegramBotsApi = new TelegramBotsApi(DefaultBotSession.class);
-            telegramBotsApi.registerBot(telegramBot);
+            telegramBotsApi.registerBot(
+                    new TelegramPollingBot(telegramBot, telegramUpdatePipeline));
             return telegramBotsApi;
         } catch (TelegramApiException e) {
             throw new RuntimeException("Error initializing TelegramBotsApi", e);
@@ -1,5 +1,6 @@
 package com.example.stayfinder.controller;
 
+import com.example.stayfinder.dto.user.RefreshTokenRequestDto;
 import com.example.stayfinder.dto.user.UserLoginRequestDto;
 import com.example.stayfinder.dto.user.UserLoginResponseDto;
 import com.example.stayfinder.dto.user.UserRegisterRequestDto;
@@ -34,6 +35,15 @@ public class AuthController {
         return authService.authenticate(loginDto);
     }
 
+    @PostMapping("/refresh")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Refresh access token",
+            description = "Issuing a new access token and rotating the refresh token")
+    public UserLoginResponseDto refresh(
+            @RequestBody @Valid RefreshTokenRequestDto refreshDto) {
+        return authService.refresh(refreshDto);
+    }
+
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "Register user",
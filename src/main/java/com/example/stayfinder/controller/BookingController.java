@@ -5,11 +5,17 @@ import com.example.stayfinder.dto.booking.BookingFilterParameters;
 import com.example.stayfinder.dto.booking.CreateBookingRequestDto;
 import com.example.stayfinder.model.User;
 import com.example.stayfinder.service.booking.BookingService;
+import com.example.stayfinder.service.export.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -21,6 +27,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -53,6 +60,23 @@ public class BookingController {
         return bookingService.findAllByUserIdAndStatus(parameters, pageable);
     }
 
+    @GetMapping("/export")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Export all bookings",
+            description = "Streaming all bookings as CSV or NDJSON")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportBookings(@RequestParam(defaultValue = "csv") String format,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        response.setContentType(exportFormat.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(exportFormat.getFileName("bookings"))
+                .build()
+                .toString());
+        bookingService.exportBookings(exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/my")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get all bookings for current user",
@@ -0,0 +1,58 @@
+package com.example.stayfinder.controller;
+
+import com.example.stayfinder.dto.notification.BroadcastDto;
+import com.example.stayfinder.dto.notification.BroadcastRequestDto;
+import com.example.stayfinder.dto.notification.BroadcastStatusUpdateRequestDto;
+import com.example.stayfinder.service.telegram.TelegramBroadcastService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/broadcasts")
+@Tag(name = "Broadcast management",
+        description = "Endpoint for sending a message to every Telegram chat")
+public class BroadcastController {
+    private final TelegramBroadcastService telegramBroadcastService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Start a broadcast",
+            description = "Sending a message to all users with a registered Telegram chat")
+    @PreAuthorize("hasRole('ADMIN')")
+    public BroadcastDto start(@RequestBody @Valid BroadcastRequestDto requestDto) {
+        return telegramBroadcastService.start(requestDto);
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get broadcast progress",
+            description = "Getting status and delivery counters of a broadcast")
+    @PreAuthorize("hasRole('ADMIN')")
+    public BroadcastDto getById(@PathVariable Long id) {
+        return telegramBroadcastService.getById(id);
+    }
+
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Pause, resume or cancel a broadcast",
+            description = "Changing broadcast status to PAUSED, RUNNING or CANCELED")
+    @PreAuthorize("hasRole('ADMIN')")
+    public BroadcastDto updateStatus(
+            @PathVariable Long id,
+            @RequestBody @Valid BroadcastStatusUpdateRequestDto requestDto) {
+        return telegramBroadcastService.updateStatus(id, requestDto);
+    }
+}
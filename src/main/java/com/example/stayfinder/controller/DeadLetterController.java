@@ -0,0 +1,49 @@
+package com.example.stayfinder.controller;
+
+import com.example.stayfinder.dto.notification.DeadLetterDto;
+import com.example.stayfinder.dto.notification.DeadLetterReplayRequestDto;
+import com.example.stayfinder.dto.notification.DeadLetterReplayResponseDto;
+import com.example.stayfinder.service.notification.DeadLetterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/dead-letters")
+@Tag(name = "Dead letter management",
+        description = "Endpoint for inspecting and replaying undelivered notifications")
+public class DeadLetterController {
+    private final DeadLetterService deadLetterService;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get dead letters",
+            description = "Getting notifications that failed all delivery attempts")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Page<DeadLetterDto> getAll(Pageable pageable) {
+        return deadLetterService.findAll(pageable);
+    }
+
+    @PostMapping("/replay")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Replay dead letters",
+            description = "Moving the given dead letters, or all of them when ids "
+                    + "are omitted, back to the notification outbox")
+    @PreAuthorize("hasRole('ADMIN')")
+    public DeadLetterReplayResponseDto replay(
+            @RequestBody @Valid DeadLetterReplayRequestDto requestDto) {
+        return deadLetterService.replay(requestDto);
+    }
+}
@@ -4,17 +4,26 @@ import com.example.stayfinder.dto.payment.CreatePaymentSessionDto;
 import com.example.stayfinder.dto.payment.PaymentDto;
 import com.example.stayfinder.dto.payment.PaymentLowInfoDto;
 import com.example.stayfinder.dto.payment.PaymentWithoutSessionDto;
-import com.example.stayfinder.service.payment.StripePaymentService;
+import com.example.stayfinder.service.export.ExportFormat;
+import com.example.stayfinder.service.payment.PaymentService;
+import com.example.stayfinder.service.payment.PaymentWebhookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -25,7 +34,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/payments")
 @Tag(name = "Payment management", description = "Endpoint for managing payments")
 public class PaymentController {
-    private final StripePaymentService paymentService;
+    private final PaymentService paymentService;
+    private final PaymentWebhookService paymentWebhookService;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
@@ -42,8 +52,10 @@ public class PaymentController {
     @Operation(summary = "Create a session by booking id",
             description = "Creating a stripe session by booking id")
     @PreAuthorize("hasRole('USER')")
-    public PaymentDto createSession(@RequestBody CreatePaymentSessionDto requestDto) {
-        return paymentService.createSession(requestDto.bookingId());
+    public PaymentDto createSession(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody CreatePaymentSessionDto requestDto) {
+        return paymentService.createSession(requestDto.bookingId(), idempotencyKey);
     }
 
     @GetMapping("/success")
@@ -63,4 +75,31 @@ public class PaymentController {
     public String handleCancelledPayment(@RequestParam String sessionId) {
         return paymentService.processCancelPayment(sessionId);
     }
+
+    @GetMapping("/export")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Export all payments",
+            description = "Streaming all payments as CSV or NDJSON")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportPayments(@RequestParam(defaultValue = "csv") String format,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        response.setContentType(exportFormat.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(exportFormat.getFileName("payments"))
+                .build()
+                .toString());
+        paymentService.exportPayments(exportFormat, response.getOutputStream());
+    }
+
+    @PostMapping(value = "/webhook", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Receive Stripe webhook event",
+            description = "Verifying and storing a Stripe event for asynchronous processing")
+    public void receiveWebhookEvent(
+            @RequestHeader("Stripe-Signature") String signature,
+            @RequestBody String payload) {
+        paymentWebhookService.receiveEvent(payload, signature);
+    }
 }
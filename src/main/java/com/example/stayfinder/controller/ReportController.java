@@ -0,0 +1,39 @@
+package com.example.stayfinder.controller;
+
+import com.example.stayfinder.dto.report.RevenueReportDto;
+import com.example.stayfinder.service.report.ReportService;
+import com.example.stayfinder.service.report.RevenueGrouping;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/reports")
+@Tag(name = "Report management", description = "Endpoint for reporting")
+public class ReportController {
+    private final ReportService reportService;
+
+    @GetMapping("/revenue")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Get revenue report",
+            description = "Getting revenue and paid bookings grouped by day, month "
+                    + "or accommodation from pre-aggregated rollups")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<RevenueReportDto> getRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String groupBy) {
+        return reportService.getRevenue(from, to, RevenueGrouping.of(groupBy));
+    }
+}
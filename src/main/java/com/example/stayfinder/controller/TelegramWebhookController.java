@@ -0,0 +1,36 @@
+package com.example.stayfinder.controller;
+
+import com.example.stayfinder.service.telegram.TelegramUpdateReceiver;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/telegram")
+@ConditionalOnProperty(name = "bot.mode", havingValue = "webhook")
+@Tag(name = "Telegram bot", description = "Endpoint for receiving Telegram bot updates")
+public class TelegramWebhookController {
+    private final TelegramUpdateReceiver telegramUpdateReceiver;
+
+    @PostMapping(value = "/webhook", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Receive Telegram update",
+            description = "Verifying the webhook secret token and queueing the update")
+    public void receiveUpdate(
+            @RequestHeader(value = "X-Telegram-Bot-Api-Secret-Token", required = false)
+            String secretToken,
+            @RequestBody Update update) {
+        telegramUpdateReceiver.receive(secretToken, update);
+    }
+}
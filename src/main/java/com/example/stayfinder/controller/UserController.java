@@ -1,21 +1,30 @@
 package com.example.stayfinder.controller;
 
+import com.example.stayfinder.dto.user.UserImportReportDto;
+import com.example.stayfinder.dto.user.UserProfilePatchRequestDto;
 import com.example.stayfinder.dto.user.UserRegisterRequestDto;
 import com.example.stayfinder.dto.user.UserResponseDto;
 import com.example.stayfinder.dto.user.UserRoleUpdateRequestDto;
 import com.example.stayfinder.model.User;
+import com.example.stayfinder.service.user.UserImportService;
 import com.example.stayfinder.service.user.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,7 +34,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/users")
 @Tag(name = "User management", description = "Endpoint for managing users")
 public class UserController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
     private final UserService userService;
+    private final UserImportService userImportService;
 
     @PutMapping("/{id}/role")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -38,6 +49,19 @@ public class UserController {
         return userService.updateUserRoles(id, userRoleUpdateDto.roleNames());
     }
 
+    @PostMapping(value = "/import",
+            consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Import users",
+            description = "Importing users from CSV or NDJSON, admins access only")
+    @PreAuthorize("hasRole('ADMIN')")
+    public UserImportReportDto importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream inputStream) {
+        return userImportService.importUsers(
+                inputStream, MediaType.parseMediaType(contentType));
+    }
+
     @GetMapping("/me")
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Get users profile",
@@ -57,4 +81,15 @@ public class UserController {
         User user = (User) authentication.getPrincipal();
         return userService.updateProfile(user, updateDto);
     }
+
+    @PatchMapping(value = "/me")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Partially update users profile",
+            description = "Updating only the provided fields of users profile")
+    public UserResponseDto patchProfile(
+            Authentication authentication,
+            @RequestBody @Valid UserProfilePatchRequestDto patchDto) {
+        User user = (User) authentication.getPrincipal();
+        return userService.patchProfile(user, patchDto);
+    }
 }
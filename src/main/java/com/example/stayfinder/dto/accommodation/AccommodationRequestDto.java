@@ -2,6 +2,7 @@ package com.example.stayfinder.dto.accommodation;
 
 import com.example.stayfinder.model.Accommodation;
 import com.example.stayfinder.validation.EnumValidator;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
@@ -22,6 +23,7 @@ public record AccommodationRequestDto(
         message = "Invalid amenities value")
         Set<String> amenities,
         @Positive
+        @Digits(integer = 8, fraction = 2)
         BigDecimal dailyRate,
         @Positive
         Integer availability){
@@ -0,0 +1,13 @@
+package com.example.stayfinder.dto.booking;
+
+import com.example.stayfinder.model.Booking;
+import java.time.LocalDateTime;
+
+public record BookingExportDto(
+        Long id,
+        Long accommodationId,
+        Long userId,
+        LocalDateTime checkInDate,
+        LocalDateTime checkOutDate,
+        Booking.Status status) {
+}
@@ -0,0 +1,14 @@
+package com.example.stayfinder.dto.notification;
+
+import com.example.stayfinder.model.BroadcastStatus;
+import java.time.LocalDateTime;
+
+public record BroadcastDto(
+        Long id,
+        BroadcastStatus status,
+        long total,
+        long sent,
+        long failed,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt) {
+}
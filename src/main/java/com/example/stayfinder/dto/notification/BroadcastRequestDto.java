@@ -0,0 +1,10 @@
+package com.example.stayfinder.dto.notification;
+
+import jakarta.validation.constraints.NotBlank;
+import org.hibernate.validator.constraints.Length;
+
+public record BroadcastRequestDto(
+        @NotBlank(message = "Message may not be blank")
+        @Length(max = 4096)
+        String message) {
+}
@@ -0,0 +1,9 @@
+package com.example.stayfinder.dto.notification;
+
+import com.example.stayfinder.model.BroadcastStatus;
+import jakarta.validation.constraints.NotNull;
+
+public record BroadcastStatusUpdateRequestDto(
+        @NotNull(message = "Status may not be null")
+        BroadcastStatus status) {
+}
@@ -0,0 +1,15 @@
+package com.example.stayfinder.dto.notification;
+
+import com.example.stayfinder.model.NotificationPriority;
+import java.time.LocalDateTime;
+
+public record DeadLetterDto(
+        Long id,
+        Long userId,
+        String message,
+        NotificationPriority priority,
+        int attempts,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime failedAt) {
+}
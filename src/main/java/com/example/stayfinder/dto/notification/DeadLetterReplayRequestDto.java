@@ -0,0 +1,10 @@
+package com.example.stayfinder.dto.notification;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record DeadLetterReplayRequestDto(
+        @Size(max = 1000)
+        List<@NotNull Long> ids) {
+}
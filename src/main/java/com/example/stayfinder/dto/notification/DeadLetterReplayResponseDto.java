@@ -0,0 +1,5 @@
+package com.example.stayfinder.dto.notification;
+
+public record DeadLetterReplayResponseDto(
+        int replayed) {
+}
@@ -0,0 +1,13 @@
+package com.example.stayfinder.dto.payment;
+
+import com.example.stayfinder.model.Money;
+import com.example.stayfinder.model.Payment;
+
+public record PaymentExportDto(
+        Long id,
+        Long bookingId,
+        String sessionId,
+        Money amount,
+        Payment.PaymentStatus status,
+        Long expiredTime) {
+}
@@ -0,0 +1,12 @@
+package com.example.stayfinder.dto.report;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RevenueReportDto(
+        LocalDate period,
+        Long accommodationId,
+        String currency,
+        BigDecimal revenue,
+        long bookingsCount) {
+}
@@ -0,0 +1,8 @@
+package com.example.stayfinder.dto.user;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequestDto(
+        @NotBlank(message = "Refresh token may not be blank")
+        String refreshToken) {
+}
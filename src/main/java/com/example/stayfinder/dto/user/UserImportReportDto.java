@@ -0,0 +1,10 @@
+package com.example.stayfinder.dto.user;
+
+import java.util.List;
+
+public record UserImportReportDto(
+        int total,
+        int imported,
+        int rejected,
+        List<UserImportRowResultDto> rows) {
+}
@@ -0,0 +1,24 @@
+package com.example.stayfinder.dto.user;
+
+import com.example.stayfinder.validation.Password;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import org.hibernate.validator.constraints.Length;
+
+public record UserImportRequestDto(
+        @NotBlank(message = "Username may not be blank")
+        @Length(min = 1, max = 50)
+        String username,
+        @NotBlank(message = "Password may not be blank")
+        @Password
+        String password,
+        @NotBlank(message = "Email may not be blank")
+        @Email
+        String email,
+        @NotBlank(message = "First name may not be blank")
+        @Length(min = 1, max = 50)
+        String firstName,
+        @NotBlank(message = "Last name may not be blank")
+        @Length(min = 1, max = 50)
+        String lastName) {
+}
@@ -0,0 +1,8 @@
+package com.example.stayfinder.dto.user;
+
+public record UserImportRowResultDto(
+        long line,
+        String username,
+        String status,
+        String message) {
+}
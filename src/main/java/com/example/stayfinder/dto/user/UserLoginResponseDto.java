@@ -1,5 +1,6 @@
 package com.example.stayfinder.dto.user;
 
 public record UserLoginResponseDto(
-        String token) {
+        String token,
+        String refreshToken) {
 }
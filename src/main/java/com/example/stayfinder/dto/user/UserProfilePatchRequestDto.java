@@ -0,0 +1,27 @@
+package com.example.stayfinder.dto.user;
+
+import com.example.stayfinder.model.NotificationChannel;
+import com.example.stayfinder.validation.FieldMatch;
+import com.example.stayfinder.validation.Password;
+import jakarta.validation.constraints.Email;
+import org.hibernate.validator.constraints.Length;
+
+@FieldMatch(
+        field = "password",
+        fieldMatch = "repeatPassword",
+        message = "Passwords values don't match!")
+public record UserProfilePatchRequestDto(
+        @Length(min = 1, max = 50)
+        String username,
+        @Password
+        String password,
+        @Password
+        String repeatPassword,
+        @Email
+        String email,
+        @Length(min = 1, max = 50)
+        String firstName,
+        @Length(min = 1, max = 50)
+        String lastName,
+        NotificationChannel notificationChannel) {
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -71,6 +72,28 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return getObjectResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    protected ResponseEntity<Object> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex
+    ) {
+        return getObjectResponseEntity(
+                "The request conflicts with existing data", HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(PaymentGatewayUnavailableException.class)
+    protected ResponseEntity<Object> handlePaymentGatewayUnavailableException(
+            PaymentGatewayUnavailableException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TelegramUpdateRejectedException.class)
+    protected ResponseEntity<Object> handleTelegramUpdateRejectedException(
+            TelegramUpdateRejectedException ex
+    ) {
+        return getObjectResponseEntity(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     private ResponseEntity<Object> getObjectResponseEntity(
             String message, HttpStatus status) {
         Map<String, Object> body = new LinkedHashMap<>();
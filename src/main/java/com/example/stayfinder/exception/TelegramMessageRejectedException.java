@@ -0,0 +1,7 @@
+package com.example.stayfinder.exception;
+
+public class TelegramMessageRejectedException extends RuntimeException {
+    public TelegramMessageRejectedException(String message) {
+        super(message);
+    }
+}
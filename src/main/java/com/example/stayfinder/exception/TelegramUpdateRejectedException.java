@@ -0,0 +1,11 @@
+package com.example.stayfinder.exception;
+
+public class TelegramUpdateRejectedException extends RuntimeException {
+    public TelegramUpdateRejectedException(String message) {
+        super(message);
+    }
+
+    public TelegramUpdateRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
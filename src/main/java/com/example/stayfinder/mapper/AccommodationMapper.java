@@ -10,7 +10,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
-@Mapper(config = MapperConfig.class)
+@Mapper(config = MapperConfig.class, uses = MoneyMapper.class)
 public interface AccommodationMapper {
     @Mapping(target = "location", ignore = true)
     Accommodation toEntity(AccommodationRequestDto requestDto);
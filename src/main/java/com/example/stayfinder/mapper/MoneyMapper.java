@@ -0,0 +1,22 @@
+package com.example.stayfinder.mapper;
+
+import com.example.stayfinder.config.MapperConfig;
+import com.example.stayfinder.model.Money;
+import java.math.BigDecimal;
+import java.util.Currency;
+import org.mapstruct.Mapper;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@Mapper(config = MapperConfig.class)
+public abstract class MoneyMapper {
+    @Autowired
+    private Currency defaultCurrency;
+
+    public BigDecimal toAmount(Money money) {
+        return money.toBigDecimal();
+    }
+
+    public Money toMoney(BigDecimal amount) {
+        return Money.of(amount, defaultCurrency);
+    }
+}
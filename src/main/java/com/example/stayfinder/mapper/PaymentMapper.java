@@ -8,7 +8,7 @@ import com.example.stayfinder.model.Payment;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-@Mapper(config = MapperConfig.class)
+@Mapper(config = MapperConfig.class, uses = MoneyMapper.class)
 public interface PaymentMapper {
     @Mapping(source = "booking.id", target = "bookingId")
     PaymentDto toDto(Payment payment);
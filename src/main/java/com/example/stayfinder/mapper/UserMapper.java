@@ -1,16 +1,19 @@
 package com.example.stayfinder.mapper;
 
 import com.example.stayfinder.config.MapperConfig;
+import com.example.stayfinder.dto.user.UserProfilePatchRequestDto;
 import com.example.stayfinder.dto.user.UserRegisterRequestDto;
 import com.example.stayfinder.dto.user.UserResponseDto;
 import com.example.stayfinder.model.Role;
 import com.example.stayfinder.model.User;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 @Mapper(config = MapperConfig.class)
 public interface UserMapper {
@@ -21,6 +24,10 @@ public interface UserMapper {
 
     void updateEntityFromDto(@MappingTarget User user, UserRegisterRequestDto updateDto);
 
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "password", ignore = true)
+    void patchEntityFromDto(@MappingTarget User user, UserProfilePatchRequestDto patchDto);
+
     @Named("rolesToStringSet")
     default Set<String> mapRolesToStrings(Set<Role> roles) {
         return roles.stream()
@@ -2,6 +2,7 @@ package com.example.stayfinder.model;
 
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,7 +14,6 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
-import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.Getter;
@@ -51,7 +51,8 @@ public class Accommodation {
     @Enumerated(EnumType.STRING)
     private Set<Amenities> amenities = new HashSet<>();
     @Column(nullable = false)
-    private BigDecimal dailyRate;
+    @Convert(converter = MoneyConverter.class)
+    private Money dailyRate;
     @Column(nullable = false)
     private Integer availability;
     @Column(nullable = false)
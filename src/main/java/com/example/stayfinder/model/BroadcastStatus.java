@@ -0,0 +1,9 @@
+package com.example.stayfinder.model;
+
+public enum BroadcastStatus {
+    RUNNING,
+    PAUSED,
+    CANCELED,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,51 @@
+package com.example.stayfinder.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+@JsonSerialize(using = MoneySerializer.class)
+public record Money(
+        long amount,
+        Currency currency) {
+    public Money {
+        Objects.requireNonNull(currency, "Money currency is required");
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
+        try {
+            return new Money(amount.setScale(currency.getDefaultFractionDigits(),
+                    RoundingMode.UNNECESSARY).unscaledValue().longValueExact(), currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + amount
+                    + " can't be represented exactly in " + currency.getCurrencyCode(), e);
+        }
+    }
+
+    public Money plus(Money other) {
+        checkCurrency(other);
+        return new Money(Math.addExact(amount, other.amount), currency);
+    }
+
+    public Money times(long multiplier) {
+        return new Money(Math.multiplyExact(amount, multiplier), currency);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount, currency.getDefaultFractionDigits());
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    private void checkCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Can't combine " + currency.getCurrencyCode()
+                    + " and " + other.currency.getCurrencyCode() + " amounts");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.stayfinder.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+    private final Currency defaultCurrency;
+
+    public MoneyConverter(@Value("${stripe.default.currency}") String currencyCode) {
+        this.defaultCurrency = Currency.getInstance(currencyCode.toUpperCase(Locale.ROOT));
+    }
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount != null ? Money.of(amount, defaultCurrency) : null;
+    }
+}
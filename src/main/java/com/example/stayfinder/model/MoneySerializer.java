@@ -0,0 +1,21 @@
+package com.example.stayfinder.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+public class MoneySerializer extends StdSerializer<Money> {
+    public MoneySerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money money, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("amount", money.toBigDecimal());
+        generator.writeStringField("currency", money.currency().getCurrencyCode());
+        generator.writeEndObject();
+    }
+}
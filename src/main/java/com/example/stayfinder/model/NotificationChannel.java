@@ -0,0 +1,6 @@
+package com.example.stayfinder.model;
+
+public enum NotificationChannel {
+    TELEGRAM,
+    EMAIL
+}
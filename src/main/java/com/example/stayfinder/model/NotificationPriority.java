@@ -0,0 +1,6 @@
+package com.example.stayfinder.model;
+
+public enum NotificationPriority {
+    TRANSACTIONAL,
+    BROADCAST
+}
@@ -0,0 +1,32 @@
+package com.example.stayfinder.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+@Entity
+@Table(name = "payment_webhook_events")
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true)
+public class PaymentWebhookEvent {
+    @Id
+    private String id;
+    @Column(nullable = false)
+    private String type;
+    @Column(nullable = false)
+    private String sessionId;
+    @ToString.Exclude
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+    @Column(nullable = false)
+    private LocalDateTime receivedAt;
+    private LocalDateTime processedAt;
+}
@@ -2,6 +2,8 @@ package com.example.stayfinder.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -44,6 +46,9 @@ public class User implements UserDetails {
     private String firstName;
     @Column(nullable = false)
     private String lastName;
+    private String languageCode;
+    @Enumerated(EnumType.STRING)
+    private NotificationChannel notificationChannel;
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "users_roles",
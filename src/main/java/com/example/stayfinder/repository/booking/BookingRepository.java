@@ -1,28 +1,39 @@
 package com.example.stayfinder.repository.booking;
 
+import com.example.stayfinder.dto.booking.BookingExportDto;
 import com.example.stayfinder.model.Booking;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long>,
         JpaSpecificationExecutor<Booking> {
+    String EXPORT_FETCH_SIZE = "500";
+
     Page<Booking> findByUserId(Long userId, Pageable pageable);
 
     Optional<Booking> findByUserIdAndId(Long userId, Long bookingId);
 
     List<Booking> findByAccommodationId(Long id);
 
+    @EntityGraph(attributePaths = {"accommodation"})
+    Optional<Booking> findWithAccommodationById(Long id);
+
     @Modifying
     @Query("UPDATE Booking b SET b.status = :status WHERE b.id IN :bookingId")
     void updateStatus(@Param("bookingId") Long bookingId,
@@ -35,4 +46,12 @@ public interface BookingRepository extends JpaRepository<Booking, Long>,
     @Query("UPDATE Booking b SET b.status = :status WHERE b.id IN :bookingIds")
     void updateStatusForExpiredBooking(@Param("bookingIds") Set<Long> bookingIds,
                                        @Param("status") Booking.Status status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.example.stayfinder.dto.booking.BookingExportDto("
+            + "b.id, b.accommodation.id, b.user.id, b.checkInDate, b.checkOutDate, b.status) "
+            + "FROM Booking b ORDER BY b.id")
+    Stream<BookingExportDto> streamAllForExport();
 }
@@ -0,0 +1,76 @@
+package com.example.stayfinder.repository.notification;
+
+import com.example.stayfinder.dto.notification.DeadLetterDto;
+import com.example.stayfinder.model.NotificationPriority;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationDeadLetterRepository {
+    private static final String FIND_ALL = """
+            SELECT id, user_id, message, priority, attempts, last_error, created_at, failed_at
+            FROM notification_dead_letters
+            ORDER BY id
+            LIMIT :limit OFFSET :offset
+            """;
+    private static final String COUNT_ALL = "SELECT count(*) FROM notification_dead_letters";
+    private static final String REPLAY = """
+            WITH replayed AS (
+                DELETE FROM notification_dead_letters
+                WHERE id IN (:ids)
+                RETURNING id, user_id, message, priority
+            )
+            INSERT INTO notification_outbox (user_id, message, priority)
+            SELECT user_id, message, priority FROM replayed ORDER BY id
+            """;
+    private static final String REPLAY_ALL = """
+            WITH replayed AS (
+                DELETE FROM notification_dead_letters
+                RETURNING id, user_id, message, priority
+            )
+            INSERT INTO notification_outbox (user_id, message, priority)
+            SELECT user_id, message, priority FROM replayed ORDER BY id
+            """;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<DeadLetterDto> findAll(long offset, int limit) {
+        return namedParameterJdbcTemplate.query(FIND_ALL, new MapSqlParameterSource()
+                        .addValue("offset", offset)
+                        .addValue("limit", limit),
+                this::toDeadLetterDto);
+    }
+
+    public long countAll() {
+        Long count = namedParameterJdbcTemplate.queryForObject(
+                COUNT_ALL, new MapSqlParameterSource(), Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public int replay(Collection<Long> ids) {
+        return namedParameterJdbcTemplate.update(REPLAY, new MapSqlParameterSource("ids", ids));
+    }
+
+    public int replayAll() {
+        return namedParameterJdbcTemplate.update(REPLAY_ALL, new MapSqlParameterSource());
+    }
+
+    private DeadLetterDto toDeadLetterDto(ResultSet resultSet, int rowNum) throws SQLException {
+        return new DeadLetterDto(
+                resultSet.getLong("id"),
+                resultSet.getLong("user_id"),
+                resultSet.getString("message"),
+                NotificationPriority.valueOf(resultSet.getString("priority")),
+                resultSet.getInt("attempts"),
+                resultSet.getString("last_error"),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("failed_at", LocalDateTime.class));
+    }
+}
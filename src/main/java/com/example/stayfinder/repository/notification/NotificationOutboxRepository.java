@@ -0,0 +1,144 @@
+package com.example.stayfinder.repository.notification;
+
+import com.example.stayfinder.model.NotificationPriority;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxRepository {
+    private static final String INSERT_MESSAGE =
+            "INSERT INTO notification_outbox (user_id, message, priority) VALUES (?, ?, ?)";
+    private static final String INSERT_DELAYED_MESSAGE = """
+            INSERT INTO notification_outbox (user_id, message, priority, available_at)
+            VALUES (:userId, :message, :priority, now() + make_interval(secs => :delaySeconds))
+            """;
+    private static final String LEASE_AVAILABLE_MESSAGES = """
+            WITH available AS (
+                SELECT id FROM notification_outbox
+                WHERE user_id IN (
+                        SELECT user_id FROM notification_outbox
+                        WHERE available_at <= now()
+                        ORDER BY available_at, id
+                        LIMIT :limit)
+                    AND (available_at <= now() OR attempts = 0)
+                ORDER BY id
+                FOR UPDATE SKIP LOCKED
+            ), leased AS (
+                UPDATE notification_outbox o
+                SET attempts = o.attempts + 1,
+                    available_at = now() + make_interval(secs => :leaseSeconds)
+                FROM available a
+                WHERE o.id = a.id
+                RETURNING o.id, o.user_id, o.message, o.priority, o.attempts
+            )
+            SELECT id, user_id, message, priority, attempts FROM leased
+            ORDER BY id
+            """;
+    private static final String POSTPONE_PENDING_MESSAGES = """
+            UPDATE notification_outbox
+            SET available_at = LEAST(now() + make_interval(secs => :delaySeconds),
+                    created_at + make_interval(secs => :maxDelaySeconds))
+            WHERE user_id = :userId
+                AND attempts = 0
+                AND available_at > now()
+            """;
+    private static final String DELETE_MESSAGES =
+            "DELETE FROM notification_outbox WHERE id IN (:ids)";
+    private static final String POSTPONE_MESSAGES = """
+            UPDATE notification_outbox
+            SET available_at = now() + make_interval(secs =>
+                        LEAST(:maxDelaySeconds, :delaySeconds * power(2, attempts - 1))
+                                * (0.5 + random() / 2))
+            WHERE id IN (:ids)
+            """;
+    private static final String DEAD_LETTER_MESSAGE = """
+            WITH dead AS (
+                DELETE FROM notification_outbox
+                WHERE id = :id
+                RETURNING user_id, message, priority, attempts, created_at
+            )
+            INSERT INTO notification_dead_letters
+                (user_id, message, priority, attempts, last_error, created_at)
+            SELECT user_id, message, priority, attempts, :lastError, created_at
+            FROM dead
+            """;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void save(Long userId, String message, NotificationPriority priority) {
+        jdbcTemplate.update(INSERT_MESSAGE, userId, message, priority.name());
+    }
+
+    public void save(Long userId, String message, NotificationPriority priority,
+                     long delaySeconds) {
+        namedParameterJdbcTemplate.update(INSERT_DELAYED_MESSAGE, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("message", message)
+                .addValue("priority", priority.name())
+                .addValue("delaySeconds", delaySeconds));
+    }
+
+    public void saveAll(Collection<Long> userIds, String message, NotificationPriority priority) {
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE, userIds.stream()
+                .map(userId -> new Object[]{userId, message, priority.name()})
+                .toList());
+    }
+
+    public List<OutboxMessage> leaseAvailable(int limit, long leaseSeconds) {
+        return namedParameterJdbcTemplate.query(LEASE_AVAILABLE_MESSAGES,
+                new MapSqlParameterSource()
+                        .addValue("limit", limit)
+                        .addValue("leaseSeconds", leaseSeconds),
+                (resultSet, rowNum) -> new OutboxMessage(
+                        resultSet.getLong("id"),
+                        resultSet.getLong("user_id"),
+                        resultSet.getString("message"),
+                        NotificationPriority.valueOf(resultSet.getString("priority")),
+                        resultSet.getInt("attempts")));
+    }
+
+    public void deleteAll(Collection<Long> ids) {
+        namedParameterJdbcTemplate.update(DELETE_MESSAGES, new MapSqlParameterSource("ids", ids));
+    }
+
+    public void postponeAll(Collection<Long> ids, long delaySeconds, long maxDelaySeconds) {
+        namedParameterJdbcTemplate.update(POSTPONE_MESSAGES, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("delaySeconds", delaySeconds)
+                .addValue("maxDelaySeconds", maxDelaySeconds));
+    }
+
+    public void deadLetterAll(Collection<FailedMessage> failedMessages) {
+        namedParameterJdbcTemplate.batchUpdate(DEAD_LETTER_MESSAGE, failedMessages.stream()
+                .map(failedMessage -> new MapSqlParameterSource()
+                        .addValue("id", failedMessage.id())
+                        .addValue("lastError", failedMessage.error()))
+                .toArray(MapSqlParameterSource[]::new));
+    }
+
+    public void postponePending(Long userId, long delaySeconds, long maxDelaySeconds) {
+        namedParameterJdbcTemplate.update(POSTPONE_PENDING_MESSAGES, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("delaySeconds", delaySeconds)
+                .addValue("maxDelaySeconds", maxDelaySeconds));
+    }
+
+    public record OutboxMessage(
+            Long id,
+            Long userId,
+            String message,
+            NotificationPriority priority,
+            int attempts) {
+    }
+
+    public record FailedMessage(
+            Long id,
+            String error) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.stayfinder.repository.notification;
+
+import com.example.stayfinder.model.BroadcastStatus;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TelegramBroadcastRepository {
+    private static final String INSERT_BROADCAST = """
+            INSERT INTO telegram_broadcasts (message, status, total)
+            VALUES (:message, :status, :total)
+            RETURNING id, message, status, last_chat_id, total, sent, failed,
+                      started_at, finished_at
+            """;
+    private static final String FIND_BY_ID = """
+            SELECT id, message, status, last_chat_id, total, sent, failed,
+                   started_at, finished_at
+            FROM telegram_broadcasts
+            WHERE id = :id
+            """;
+    private static final String UPDATE_STATUS = """
+            UPDATE telegram_broadcasts
+            SET status = :status,
+                finished_at = CASE WHEN :finished THEN now() END
+            WHERE id = :id AND status IN (:currentStatuses)
+            RETURNING id, message, status, last_chat_id, total, sent, failed,
+                      started_at, finished_at
+            """;
+    private static final String LEASE_RUNNING_BROADCAST = """
+            WITH available AS (
+                SELECT id FROM telegram_broadcasts
+                WHERE status = :runningStatus AND available_at <= now()
+                ORDER BY available_at, id
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE telegram_broadcasts b
+            SET available_at = now() + make_interval(secs => :leaseSeconds)
+            FROM available a
+            WHERE b.id = a.id
+            RETURNING b.id, b.message, b.status, b.last_chat_id, b.total, b.sent, b.failed,
+                      b.started_at, b.finished_at
+            """;
+    private static final String ADVANCE_BROADCAST = """
+            UPDATE telegram_broadcasts
+            SET last_chat_id = :lastChatId,
+                sent = sent + :sent,
+                failed = failed + :failed,
+                available_at = now() + make_interval(secs => :delaySeconds)
+            WHERE id = :id AND last_chat_id = :previousChatId
+            """;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Broadcast save(String message, long total) {
+        return namedParameterJdbcTemplate.queryForObject(INSERT_BROADCAST,
+                new MapSqlParameterSource()
+                        .addValue("message", message)
+                        .addValue("status", BroadcastStatus.RUNNING.name())
+                        .addValue("total", total),
+                this::toBroadcast);
+    }
+
+    public Optional<Broadcast> findById(Long id) {
+        return namedParameterJdbcTemplate.query(FIND_BY_ID,
+                        new MapSqlParameterSource("id", id), this::toBroadcast)
+                .stream()
+                .findFirst();
+    }
+
+    public Optional<Broadcast> updateStatus(Long id, Collection<BroadcastStatus> currentStatuses,
+                                            BroadcastStatus status) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("currentStatuses", currentStatuses.stream()
+                        .map(BroadcastStatus::name)
+                        .toList())
+                .addValue("status", status.name())
+                .addValue("finished", status != BroadcastStatus.RUNNING
+                        && status != BroadcastStatus.PAUSED);
+        return namedParameterJdbcTemplate.query(UPDATE_STATUS, parameters, this::toBroadcast)
+                .stream()
+                .findFirst();
+    }
+
+    public Optional<Broadcast> leaseRunning(long leaseSeconds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("runningStatus", BroadcastStatus.RUNNING.name())
+                .addValue("leaseSeconds", leaseSeconds);
+        return namedParameterJdbcTemplate.query(
+                        LEASE_RUNNING_BROADCAST, parameters, this::toBroadcast)
+                .stream()
+                .findFirst();
+    }
+
+    public boolean advance(Long id, long previousChatId, long lastChatId, long sent, long failed,
+                           long delaySeconds) {
+        return namedParameterJdbcTemplate.update(ADVANCE_BROADCAST, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("previousChatId", previousChatId)
+                .addValue("lastChatId", lastChatId)
+                .addValue("sent", sent)
+                .addValue("failed", failed)
+                .addValue("delaySeconds", delaySeconds)) > 0;
+    }
+
+    private Broadcast toBroadcast(ResultSet resultSet, int rowNum) throws SQLException {
+        return new Broadcast(
+                resultSet.getLong("id"),
+                resultSet.getString("message"),
+                BroadcastStatus.valueOf(resultSet.getString("status")),
+                resultSet.getLong("last_chat_id"),
+                resultSet.getLong("total"),
+                resultSet.getLong("sent"),
+                resultSet.getLong("failed"),
+                resultSet.getObject("started_at", LocalDateTime.class),
+                resultSet.getObject("finished_at", LocalDateTime.class));
+    }
+
+    public record Broadcast(
+            Long id,
+            String message,
+            BroadcastStatus status,
+            long lastChatId,
+            long total,
+            long sent,
+            long failed,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt) {
+    }
+}
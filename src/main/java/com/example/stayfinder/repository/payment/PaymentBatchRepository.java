@@ -0,0 +1,247 @@
+package com.example.stayfinder.repository.payment;
+
+import com.example.stayfinder.model.Booking;
+import com.example.stayfinder.model.Money;
+import com.example.stayfinder.model.Payment;
+import com.example.stayfinder.model.User;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentBatchRepository {
+    private static final String EXPIRE_PENDING_PAYMENTS = """
+            WITH expired AS (
+                SELECT id FROM payments
+                WHERE status = :pendingStatus AND expired_time < :currentTimestamp
+                ORDER BY expired_time
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ), updated_payments AS (
+                UPDATE payments p SET status = :expiredStatus
+                FROM expired e
+                WHERE p.id = e.id
+                RETURNING p.booking_id
+            ), updated_bookings AS (
+                UPDATE bookings b SET status = :bookingExpiredStatus
+                WHERE b.id IN (SELECT booking_id FROM updated_payments)
+                AND b.status = :bookingPendingStatus
+                RETURNING b.id
+            )
+            SELECT (SELECT count(*) FROM updated_payments) AS payments,
+                   (SELECT count(*) FROM updated_bookings) AS bookings
+            """;
+    private static final String UPDATE_PAYMENT_AND_BOOKING_STATUS = """
+            WITH current_payment AS (
+                SELECT id, status FROM payments
+                WHERE session_id = :sessionId
+                FOR UPDATE
+            ), updated_payment AS (
+                UPDATE payments p SET status = :paymentStatus
+                FROM current_payment c
+                WHERE p.id = c.id
+                AND (c.status <> :paidStatus OR :paymentStatus = :paidStatus)
+                RETURNING p.id, p.booking_id, p.amount, p.status, c.status AS previous_status
+            ), updated_booking AS (
+                UPDATE bookings b SET status = :bookingStatus
+                FROM updated_payment p
+                WHERE b.id = p.booking_id
+                RETURNING b.id, b.user_id, b.accommodation_id
+            ), revenue AS (
+                INSERT INTO revenue_daily_rollups
+                (revenue_date, accommodation_id, currency, revenue, bookings_count)
+                SELECT CURRENT_DATE, b.accommodation_id, :currency,
+                       CASE WHEN p.status = :paidStatus THEN p.amount ELSE -p.amount END,
+                       CASE WHEN p.status = :paidStatus THEN 1 ELSE -1 END
+                FROM updated_payment p
+                JOIN updated_booking b ON b.id = p.booking_id
+                WHERE (p.status = :paidStatus) <> (p.previous_status = :paidStatus)
+                ON CONFLICT (revenue_date, accommodation_id, currency) DO UPDATE
+                SET revenue = revenue_daily_rollups.revenue + EXCLUDED.revenue,
+                    bookings_count = revenue_daily_rollups.bookings_count
+                        + EXCLUDED.bookings_count
+            )
+            SELECT p.id, p.booking_id, p.amount, p.status, b.user_id,
+                   u.first_name, u.last_name, u.language_code
+            FROM updated_payment p
+            JOIN updated_booking b ON b.id = p.booking_id
+            JOIN users u ON u.id = b.user_id
+            """;
+    private static final String FIND_RECONCILIATION_CANDIDATES = """
+            SELECT id, session_id, status FROM payments
+            WHERE status IN (:pendingStatus, :expiredStatus)
+            AND expired_time >= :sinceTimestamp
+            AND id > :afterId
+            ORDER BY id
+            LIMIT :limit
+            """;
+    private static final String CONFIRM_SESSIONS = """
+            WITH updated_payments AS (
+                UPDATE payments SET status = :paidStatus
+                WHERE session_id IN (:sessionIds)
+                AND status IN (:pendingStatus, :expiredStatus)
+                RETURNING id, booking_id, amount, status
+            ), updated_bookings AS (
+                UPDATE bookings b SET status = :bookingConfirmedStatus
+                FROM updated_payments p
+                WHERE b.id = p.booking_id
+                AND b.status IN (:bookingPendingStatus, :bookingExpiredStatus)
+            ), revenue AS (
+                INSERT INTO revenue_daily_rollups
+                (revenue_date, accommodation_id, currency, revenue, bookings_count)
+                SELECT CURRENT_DATE, b.accommodation_id, :currency, sum(p.amount), count(*)
+                FROM updated_payments p
+                JOIN bookings b ON b.id = p.booking_id
+                GROUP BY b.accommodation_id
+                ON CONFLICT (revenue_date, accommodation_id, currency) DO UPDATE
+                SET revenue = revenue_daily_rollups.revenue + EXCLUDED.revenue,
+                    bookings_count = revenue_daily_rollups.bookings_count
+                        + EXCLUDED.bookings_count
+            )
+            SELECT p.id, p.booking_id, p.amount, p.status, b.user_id,
+                   u.first_name, u.last_name, u.language_code
+            FROM updated_payments p
+            JOIN bookings b ON b.id = p.booking_id
+            JOIN users u ON u.id = b.user_id
+            """;
+    private static final String EXPIRE_SESSIONS = """
+            WITH updated_payments AS (
+                UPDATE payments SET status = :expiredStatus
+                WHERE session_id IN (:sessionIds) AND status = :pendingStatus
+                RETURNING booking_id
+            ), updated_bookings AS (
+                UPDATE bookings b SET status = :bookingExpiredStatus
+                WHERE b.id IN (SELECT booking_id FROM updated_payments)
+                AND b.status = :bookingPendingStatus
+                RETURNING b.id
+            )
+            SELECT (SELECT count(*) FROM updated_payments) AS payments,
+                   (SELECT count(*) FROM updated_bookings) AS bookings
+            """;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Currency defaultCurrency;
+
+    public ExpiredPayments expirePendingPayments(long currentTimestamp, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("currentTimestamp", currentTimestamp)
+                .addValue("limit", limit)
+                .addValue("pendingStatus", Payment.PaymentStatus.PENDING.name())
+                .addValue("expiredStatus", Payment.PaymentStatus.EXPIRED.name())
+                .addValue("bookingPendingStatus", Booking.Status.PENDING.name())
+                .addValue("bookingExpiredStatus", Booking.Status.EXPIRED.name());
+        return namedParameterJdbcTemplate.queryForObject(EXPIRE_PENDING_PAYMENTS, parameters,
+                (resultSet, rowNum) -> new ExpiredPayments(
+                        resultSet.getInt("payments"), resultSet.getInt("bookings")));
+    }
+
+    public Optional<PaymentStatusUpdate> updateStatusBySessionId(
+            String sessionId, Payment.PaymentStatus paymentStatus, Booking.Status bookingStatus) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("sessionId", sessionId)
+                .addValue("paymentStatus", paymentStatus.name())
+                .addValue("bookingStatus", bookingStatus.name())
+                .addValue("paidStatus", Payment.PaymentStatus.PAID.name())
+                .addValue("currency", defaultCurrency.getCurrencyCode());
+        return namedParameterJdbcTemplate.query(UPDATE_PAYMENT_AND_BOOKING_STATUS, parameters,
+                        this::toPaymentStatusUpdate)
+                .stream()
+                .findFirst();
+    }
+
+    public List<ReconciliationCandidate> findReconciliationCandidates(
+            long afterId, long sinceTimestamp, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("sinceTimestamp", sinceTimestamp)
+                .addValue("limit", limit)
+                .addValue("pendingStatus", Payment.PaymentStatus.PENDING.name())
+                .addValue("expiredStatus", Payment.PaymentStatus.EXPIRED.name());
+        return namedParameterJdbcTemplate.query(FIND_RECONCILIATION_CANDIDATES, parameters,
+                (resultSet, rowNum) -> new ReconciliationCandidate(
+                        resultSet.getLong("id"),
+                        resultSet.getString("session_id"),
+                        Payment.PaymentStatus.valueOf(resultSet.getString("status"))));
+    }
+
+    public List<PaymentStatusUpdate> confirmSessions(Collection<String> sessionIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("sessionIds", sessionIds)
+                .addValue("currency", defaultCurrency.getCurrencyCode())
+                .addValue("paidStatus", Payment.PaymentStatus.PAID.name())
+                .addValue("pendingStatus", Payment.PaymentStatus.PENDING.name())
+                .addValue("expiredStatus", Payment.PaymentStatus.EXPIRED.name())
+                .addValue("bookingConfirmedStatus", Booking.Status.CONFIRMED.name())
+                .addValue("bookingPendingStatus", Booking.Status.PENDING.name())
+                .addValue("bookingExpiredStatus", Booking.Status.EXPIRED.name());
+        return namedParameterJdbcTemplate.query(
+                CONFIRM_SESSIONS, parameters, this::toPaymentStatusUpdate);
+    }
+
+    public ExpiredPayments expireSessions(Collection<String> sessionIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("sessionIds", sessionIds)
+                .addValue("pendingStatus", Payment.PaymentStatus.PENDING.name())
+                .addValue("expiredStatus", Payment.PaymentStatus.EXPIRED.name())
+                .addValue("bookingPendingStatus", Booking.Status.PENDING.name())
+                .addValue("bookingExpiredStatus", Booking.Status.EXPIRED.name());
+        return namedParameterJdbcTemplate.queryForObject(EXPIRE_SESSIONS, parameters,
+                (resultSet, rowNum) -> new ExpiredPayments(
+                        resultSet.getInt("payments"), resultSet.getInt("bookings")));
+    }
+
+    private PaymentStatusUpdate toPaymentStatusUpdate(ResultSet resultSet, int rowNum)
+            throws SQLException {
+        return new PaymentStatusUpdate(
+                resultSet.getLong("id"),
+                resultSet.getLong("booking_id"),
+                resultSet.getLong("user_id"),
+                resultSet.getString("first_name"),
+                resultSet.getString("last_name"),
+                resultSet.getString("language_code"),
+                Money.of(resultSet.getBigDecimal("amount"), defaultCurrency),
+                Payment.PaymentStatus.valueOf(resultSet.getString("status")));
+    }
+
+    public record ExpiredPayments(
+            int payments,
+            int bookings) {
+    }
+
+    public record PaymentStatusUpdate(
+            Long paymentId,
+            Long bookingId,
+            Long userId,
+            String firstName,
+            String lastName,
+            String languageCode,
+            Money amount,
+            Payment.PaymentStatus status) {
+        public Payment toPayment() {
+            return new Payment()
+                    .setId(paymentId)
+                    .setAmount(amount)
+                    .setStatus(status)
+                    .setBooking(new Booking()
+                            .setId(bookingId)
+                            .setUser(new User()
+                                    .setId(userId)
+                                    .setFirstName(firstName)
+                                    .setLastName(lastName)
+                                    .setLanguageCode(languageCode)));
+        }
+    }
+
+    public record ReconciliationCandidate(
+            Long paymentId,
+            String sessionId,
+            Payment.PaymentStatus status) {
+    }
+}
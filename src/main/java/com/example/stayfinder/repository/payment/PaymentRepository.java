@@ -1,34 +1,36 @@
 package com.example.stayfinder.repository.payment;
 
+import com.example.stayfinder.dto.payment.PaymentExportDto;
 import com.example.stayfinder.model.Payment;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
-    @EntityGraph(attributePaths = {"booking"})
+    String EXPORT_FETCH_SIZE = "500";
+
     Optional<Payment> findBySessionId(String sessionId);
 
+    Optional<Payment> findFirstByBookingIdAndStatusAndExpiredTimeGreaterThan(
+            Long bookingId, Payment.PaymentStatus status, Long currentTimestamp);
+
     Page<Payment> findByBookingUserId(Long userId, Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE Payment p SET p.status = :status WHERE p.id IN :paymentId")
-    void updateStatus(@Param("paymentId") Long paymentId,
-                      @Param("status") Payment.PaymentStatus status);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.example.stayfinder.dto.payment.PaymentExportDto("
+            + "p.id, p.booking.id, p.sessionId, p.amount, p.status, p.expiredTime) "
+            + "FROM Payment p ORDER BY p.id")
+    Stream<PaymentExportDto> streamAllForExport();
 
     boolean existsByBookingUserIdAndStatus(Long userId, Payment.PaymentStatus status);
-
-    @Modifying
-    @Query("UPDATE Payment p SET p.status = :status WHERE p.status = :pendingStatus "
-            + "AND p.expiredTime < :currentTimestamp")
-    void updateExpiredPayments(@Param("currentTimestamp") Long currentTimestamp,
-                               @Param("status") Payment.PaymentStatus status,
-                               @Param("pendingStatus") Payment.PaymentStatus pendingStatus);
 }
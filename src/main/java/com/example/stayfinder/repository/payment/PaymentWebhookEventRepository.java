@@ -0,0 +1,34 @@
+package com.example.stayfinder.repository.payment;
+
+import com.example.stayfinder.model.PaymentWebhookEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PaymentWebhookEventRepository
+        extends JpaRepository<PaymentWebhookEvent, String> {
+    @Modifying
+    @Query(value = "INSERT INTO payment_webhook_events "
+            + "(id, type, session_id, payload, received_at) "
+            + "VALUES (:id, :type, :sessionId, :payload, :receivedAt) "
+            + "ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("type") String type,
+                       @Param("sessionId") String sessionId,
+                       @Param("payload") String payload,
+                       @Param("receivedAt") LocalDateTime receivedAt);
+
+    @Query(value = "SELECT * FROM payment_webhook_events WHERE processed_at IS NULL "
+            + "ORDER BY received_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PaymentWebhookEvent> lockUnprocessed(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.processedAt = :processedAt WHERE e.id IN :ids")
+    void markProcessed(@Param("ids") List<String> ids,
+                       @Param("processedAt") LocalDateTime processedAt);
+}
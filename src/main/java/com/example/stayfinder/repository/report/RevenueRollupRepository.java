@@ -0,0 +1,71 @@
+package com.example.stayfinder.repository.report;
+
+import com.example.stayfinder.dto.report.RevenueReportDto;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class RevenueRollupRepository {
+    private static final String SUM_BY_DAY = """
+            SELECT revenue_date AS period, NULL AS accommodation_id, currency,
+                   sum(revenue) AS revenue, sum(bookings_count) AS bookings_count
+            FROM revenue_daily_rollups
+            WHERE revenue_date BETWEEN :from AND :to
+            GROUP BY revenue_date, currency
+            ORDER BY revenue_date, currency
+            """;
+    private static final String SUM_BY_MONTH = """
+            SELECT CAST(date_trunc('month', revenue_date) AS date) AS period,
+                   NULL AS accommodation_id, currency,
+                   sum(revenue) AS revenue, sum(bookings_count) AS bookings_count
+            FROM revenue_daily_rollups
+            WHERE revenue_date BETWEEN :from AND :to
+            GROUP BY 1, currency
+            ORDER BY 1, currency
+            """;
+    private static final String SUM_BY_ACCOMMODATION = """
+            SELECT NULL AS period, accommodation_id, currency,
+                   sum(revenue) AS revenue, sum(bookings_count) AS bookings_count
+            FROM revenue_daily_rollups
+            WHERE revenue_date BETWEEN :from AND :to
+            GROUP BY accommodation_id, currency
+            ORDER BY accommodation_id, currency
+            """;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<RevenueReportDto> sumByDay(LocalDate from, LocalDate to) {
+        return sum(SUM_BY_DAY, from, to);
+    }
+
+    public List<RevenueReportDto> sumByMonth(LocalDate from, LocalDate to) {
+        return sum(SUM_BY_MONTH, from, to);
+    }
+
+    public List<RevenueReportDto> sumByAccommodation(LocalDate from, LocalDate to) {
+        return sum(SUM_BY_ACCOMMODATION, from, to);
+    }
+
+    private List<RevenueReportDto> sum(String query, LocalDate from, LocalDate to) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        return namedParameterJdbcTemplate.query(query, parameters, this::toRevenueReportDto);
+    }
+
+    private RevenueReportDto toRevenueReportDto(ResultSet resultSet, int rowNum)
+            throws SQLException {
+        return new RevenueReportDto(
+                resultSet.getObject("period", LocalDate.class),
+                resultSet.getObject("accommodation_id", Long.class),
+                resultSet.getString("currency"),
+                resultSet.getBigDecimal("revenue"),
+                resultSet.getLong("bookings_count"));
+    }
+}
@@ -1,9 +1,34 @@
 package com.example.stayfinder.repository.telegrambotchat;
 
 import com.example.stayfinder.model.TelegramBotChat;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TelegramBotChatRepository extends JpaRepository<TelegramBotChat, Long> {
     Optional<TelegramBotChat> findByUserId(Long userId);
+
+    List<TelegramBotChat> findAllByUserIdIn(Collection<Long> userIds);
+
+    List<ChatRecipient> findAllByIdGreaterThanOrderById(Long id, Limit limit);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO telegram_bot_chats (chat_id, user_id, is_deleted)
+            VALUES (:chatId, :userId, false)
+            ON CONFLICT (user_id) DO UPDATE
+            SET chat_id = EXCLUDED.chat_id, is_deleted = false
+            """, nativeQuery = true)
+    void upsertChatId(@Param("chatId") Long chatId, @Param("userId") Long userId);
+
+    interface ChatRecipient {
+        Long getId();
+
+        Long getChatId();
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.stayfinder.repository.user;
+
+import com.example.stayfinder.model.User;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+    private static final String INSERT_USER = "INSERT INTO users "
+            + "(username, password, email, first_name, last_name) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+    private static final String INSERT_USER_ROLES = "INSERT INTO users_roles (user_id, role_id) "
+            + "SELECT u.id, :roleId FROM users u WHERE u.username IN (:usernames)";
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Transactional
+    public int[] saveAllWithRole(List<User> users, Long roleId) {
+        int[] insertedRows = jdbcTemplate.batchUpdate(INSERT_USER, users.stream()
+                .map(user -> new Object[]{
+                        user.getUsername(),
+                        user.getPassword(),
+                        user.getEmail(),
+                        user.getFirstName(),
+                        user.getLastName()})
+                .toList());
+
+        List<String> insertedUsernames = new ArrayList<>();
+        for (int i = 0; i < insertedRows.length; i++) {
+            if (insertedRows[i] != 0) {
+                insertedUsernames.add(users.get(i).getUsername());
+            }
+        }
+        if (!insertedUsernames.isEmpty()) {
+            namedParameterJdbcTemplate.update(INSERT_USER_ROLES, new MapSqlParameterSource()
+                    .addValue("roleId", roleId)
+                    .addValue("usernames", insertedUsernames));
+        }
+        return insertedRows;
+    }
+}
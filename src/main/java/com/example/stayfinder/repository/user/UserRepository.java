@@ -1,15 +1,53 @@
 package com.example.stayfinder.repository.user;
 
+import com.example.stayfinder.model.NotificationChannel;
 import com.example.stayfinder.model.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long>,
-        JpaSpecificationExecutor<User> {
+        JpaSpecificationExecutor<User>, UserRepositoryCustom {
     @EntityGraph(attributePaths = {"roles"})
     Optional<User> findByUsername(String username);
 
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    @Query(value = "SELECT u.username AS username, u.email AS email FROM users u "
+            + "WHERE u.username IN (:usernames) OR u.email IN (:emails)", nativeQuery = true)
+    List<UserIdentity> findAllIdentities(@Param("usernames") Collection<String> usernames,
+                                         @Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.id IN :ids")
+    List<UserEmail> findAllEmailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.id AS id, u.notificationChannel AS notificationChannel "
+            + "FROM User u WHERE u.id IN :ids")
+    List<UserChannel> findAllChannelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface UserIdentity {
+        String getUsername();
+
+        String getEmail();
+    }
+
+    interface UserEmail {
+        Long getId();
+
+        String getEmail();
+    }
+
+    interface UserChannel {
+        Long getId();
+
+        NotificationChannel getNotificationChannel();
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.stayfinder.repository.user;
+
+import java.util.Map;
+
+public interface UserRepositoryCustom {
+    int updateAttributes(Long userId, Map<String, Object> attributes);
+}
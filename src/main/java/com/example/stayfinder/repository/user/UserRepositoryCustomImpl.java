@@ -0,0 +1,24 @@
+package com.example.stayfinder.repository.user;
+
+import com.example.stayfinder.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import java.util.Map;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateAttributes(Long userId, Map<String, Object> attributes) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = criteriaBuilder.createCriteriaUpdate(User.class);
+        Root<User> root = update.from(User.class);
+        attributes.forEach(update::set);
+        update.where(criteriaBuilder.equal(root.get("id"), userId));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -1,18 +1,22 @@
 package com.example.stayfinder.security;
 
+import com.example.stayfinder.dto.user.RefreshTokenRequestDto;
 import com.example.stayfinder.dto.user.UserLoginRequestDto;
 import com.example.stayfinder.dto.user.UserLoginResponseDto;
+import com.example.stayfinder.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authManager;
+    private final RefreshTokenService refreshTokenService;
 
     public UserLoginResponseDto authenticate(UserLoginRequestDto requestLogin) {
         final Authentication authentication = authManager.authenticate(
@@ -20,7 +24,18 @@ public class AuthService {
                         requestLogin.username(),
                         requestLogin.password()));
 
-        String token = jwtUtil.generateToken(authentication.getName());
-        return new UserLoginResponseDto(token);
+        return createLoginResponse((User) authentication.getPrincipal());
+    }
+
+    @Transactional
+    public UserLoginResponseDto refresh(RefreshTokenRequestDto refreshRequest) {
+        User user = refreshTokenService.consume(refreshRequest.refreshToken());
+        return createLoginResponse(user);
+    }
+
+    private UserLoginResponseDto createLoginResponse(User user) {
+        String token = jwtUtil.generateToken(user.getUsername());
+        String refreshToken = refreshTokenService.issue(user);
+        return new UserLoginResponseDto(token, refreshToken);
     }
 }
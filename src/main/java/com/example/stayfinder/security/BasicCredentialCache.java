@@ -0,0 +1,82 @@
+package com.example.stayfinder.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BasicCredentialCache {
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int KEY_BYTES = 32;
+    private final Map<String, CachedCredential> credentials;
+    private final SecretKeySpec macKey;
+    private final long ttl;
+
+    public BasicCredentialCache(@Value("${security.basic.cache.ttl}") long ttl,
+                                @Value("${security.basic.cache.max-size}") int maxSize) {
+        byte[] keyBytes = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(keyBytes);
+        this.macKey = new SecretKeySpec(keyBytes, MAC_ALGORITHM);
+        this.ttl = ttl;
+        this.credentials = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCredential> eldest) {
+                return size() > maxSize
+                        || eldest.getValue().expiresAt() < System.currentTimeMillis();
+            }
+        };
+    }
+
+    public boolean isVerified(String username, String encodedPassword, String rawPassword) {
+        CachedCredential credential;
+        synchronized (credentials) {
+            credential = credentials.get(username);
+            if (credential == null) {
+                return false;
+            }
+            if (credential.expiresAt() < System.currentTimeMillis()
+                    || !credential.encodedPassword().equals(encodedPassword)) {
+                credentials.remove(username);
+                return false;
+            }
+        }
+        return MessageDigest.isEqual(credential.passwordMac(), mac(rawPassword));
+    }
+
+    public void put(String username, String encodedPassword, String rawPassword) {
+        CachedCredential credential = new CachedCredential(
+                encodedPassword, mac(rawPassword), System.currentTimeMillis() + ttl);
+        synchronized (credentials) {
+            credentials.put(username, credential);
+        }
+    }
+
+    public void evict(String username) {
+        synchronized (credentials) {
+            credentials.remove(username);
+        }
+    }
+
+    private byte[] mac(String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(macKey);
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Can't compute credential hash", e);
+        }
+    }
+
+    private record CachedCredential(
+            String encodedPassword,
+            byte[] passwordMac,
+            long expiresAt) {
+    }
+}
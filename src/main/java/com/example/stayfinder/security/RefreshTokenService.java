@@ -0,0 +1,70 @@
+package com.example.stayfinder.security;
+
+import com.example.stayfinder.model.RefreshToken;
+import com.example.stayfinder.model.User;
+import com.example.stayfinder.repository.refreshtoken.RefreshTokenRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+    @Value("${jwt.refresh.expiration}")
+    private long refreshExpiration;
+
+    public String issue(User user) {
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(tokenBytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+        refreshTokenRepository.save(new RefreshToken()
+                .setUser(user)
+                .setTokenHash(hash(rawToken))
+                .setExpiresAt(LocalDateTime.now().plus(refreshExpiration, ChronoUnit.MILLIS)));
+        return rawToken;
+    }
+
+    public User consume(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .filter(token -> token.getExpiresAt().isAfter(LocalDateTime.now()))
+                .orElseThrow(() -> new BadCredentialsException("Expired or invalid refresh token"));
+
+        if (refreshTokenRepository.deleteTokenById(refreshToken.getId()) == 0
+                || !refreshToken.getUser().isEnabled()) {
+            throw new BadCredentialsException("Expired or invalid refresh token");
+        }
+        return refreshToken.getUser();
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    public void deleteExpiredTokens() {
+        refreshTokenRepository.deleteAllExpiredBefore(LocalDateTime.now());
+    }
+
+    private String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return HexFormat.of().formatHex(
+                    digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Can't hash refresh token", e);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.example.stayfinder.dto.booking.BookingDto;
 import com.example.stayfinder.dto.booking.BookingFilterParameters;
 import com.example.stayfinder.dto.booking.CreateBookingRequestDto;
 import com.example.stayfinder.model.User;
+import com.example.stayfinder.service.export.ExportFormat;
+import java.io.OutputStream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -23,4 +25,6 @@ public interface BookingService {
     void cancelByUserIdAndId(Long userId, Long bookingId);
 
     void checkHourlyExpiredBookings();
+
+    void exportBookings(ExportFormat format, OutputStream outputStream);
 }
@@ -1,6 +1,7 @@
 package com.example.stayfinder.service.booking;
 
 import com.example.stayfinder.dto.booking.BookingDto;
+import com.example.stayfinder.dto.booking.BookingExportDto;
 import com.example.stayfinder.dto.booking.BookingFilterParameters;
 import com.example.stayfinder.dto.booking.CreateBookingRequestDto;
 import com.example.stayfinder.exception.DataProcessingException;
@@ -13,12 +14,17 @@ import com.example.stayfinder.repository.accommodation.AccommodationRepository;
 import com.example.stayfinder.repository.booking.BookingRepository;
 import com.example.stayfinder.repository.booking.BookingSpecificationBuilder;
 import com.example.stayfinder.repository.user.UserRepository;
+import com.example.stayfinder.service.export.ExportColumn;
+import com.example.stayfinder.service.export.ExportFormat;
+import com.example.stayfinder.service.export.ExportWriter;
 import com.example.stayfinder.service.notification.NotificationService;
-import com.example.stayfinder.service.payment.StripePaymentService;
+import com.example.stayfinder.service.payment.PaymentService;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -31,13 +37,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
+    private static final List<ExportColumn<BookingExportDto>> EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("id", BookingExportDto::id),
+            new ExportColumn<>("accommodation_id", BookingExportDto::accommodationId),
+            new ExportColumn<>("user_id", BookingExportDto::userId),
+            new ExportColumn<>("check_in_date", BookingExportDto::checkInDate),
+            new ExportColumn<>("check_out_date", BookingExportDto::checkOutDate),
+            new ExportColumn<>("status", BookingExportDto::status));
+
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
     private final BookingSpecificationBuilder specificationBuilder;
     private final AccommodationRepository accommodationRepository;
     private final UserRepository userRepository;
-    private final StripePaymentService paymentService;
+    private final PaymentService paymentService;
     private final NotificationService notificationService;
+    private final ExportWriter exportWriter;
 
     @Override
     public BookingDto save(User user, CreateBookingRequestDto requestDto) {
@@ -46,10 +61,11 @@ public class BookingServiceImpl implements BookingService {
         }
         Accommodation accommodationFromDb = validateAccommodation(requestDto);
         User userFromDb = findUserById(user.getId());
-        Booking booking = createBookingEntity(requestDto, accommodationFromDb, userFromDb);
+        Booking booking = bookingRepository.save(
+                createBookingEntity(requestDto, accommodationFromDb, userFromDb));
         notificationService.sendCreateBookingMessage(accommodationFromDb, userFromDb, booking);
 
-        return bookingMapper.toDto(bookingRepository.save(booking));
+        return bookingMapper.toDto(booking);
     }
 
     @Override
@@ -116,6 +132,14 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBookings(ExportFormat format, OutputStream outputStream) {
+        try (Stream<BookingExportDto> bookings = bookingRepository.streamAllForExport()) {
+            exportWriter.write(bookings, format, EXPORT_COLUMNS, outputStream);
+        }
+    }
+
     private Accommodation validateAccommodation(CreateBookingRequestDto requestDto) {
         List<Booking> overlappingBookings = bookingRepository.findByAccommodationId(
                         requestDto.accommodationId()).stream()
@@ -0,0 +1,87 @@
+package com.example.stayfinder.service.email;
+
+import com.example.stayfinder.model.NotificationChannel;
+import com.example.stayfinder.repository.user.UserRepository;
+import com.example.stayfinder.service.notification.NotificationChannelSender;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmailChannelSender implements NotificationChannelSender {
+    private final JavaMailSender mailSender;
+    private final UserRepository userRepository;
+    private final String from;
+    private final String subject;
+
+    public EmailChannelSender(JavaMailSender mailSender,
+                              UserRepository userRepository,
+                              @Value("${notification.email.from}") String from,
+                              @Value("${notification.email.subject}") String subject) {
+        this.mailSender = mailSender;
+        this.userRepository = userRepository;
+        this.from = from;
+        this.subject = subject;
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.EMAIL;
+    }
+
+    @Override
+    public Map<Long, String> findRecipients(Collection<Long> userIds) {
+        return userRepository.findAllEmailsByIdIn(userIds).stream()
+                .collect(Collectors.toMap(
+                        UserRepository.UserEmail::getId, UserRepository.UserEmail::getEmail));
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> sendAll(List<ChannelMessage> messages) {
+        List<SimpleMailMessage> mailMessages = messages.stream()
+                .map(this::createMailMessage)
+                .toList();
+        try {
+            mailSender.send(mailMessages.toArray(SimpleMailMessage[]::new));
+            return mailMessages.stream()
+                    .map(mailMessage -> CompletableFuture.<Void>completedFuture(null))
+                    .toList();
+        } catch (MailSendException e) {
+            return mailMessages.stream()
+                    .map(mailMessage -> getResult(mailMessage, e))
+                    .toList();
+        } catch (MailException e) {
+            return mailMessages.stream()
+                    .map(mailMessage -> CompletableFuture.<Void>failedFuture(e))
+                    .toList();
+        }
+    }
+
+    private CompletableFuture<Void> getResult(SimpleMailMessage mailMessage,
+                                              MailSendException exception) {
+        if (exception.getFailedMessages().isEmpty()) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        Exception failure = exception.getFailedMessages().get(mailMessage);
+        return failure == null
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.failedFuture(failure);
+    }
+
+    private SimpleMailMessage createMailMessage(ChannelMessage message) {
+        SimpleMailMessage mailMessage = new SimpleMailMessage();
+        mailMessage.setFrom(from);
+        mailMessage.setTo(message.recipient());
+        mailMessage.setSubject(subject);
+        mailMessage.setText(message.text());
+        return mailMessage;
+    }
+}
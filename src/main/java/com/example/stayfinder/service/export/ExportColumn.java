@@ -0,0 +1,8 @@
+package com.example.stayfinder.service.export;
+
+import java.util.function.Function;
+
+public record ExportColumn<T>(
+        String name,
+        Function<T, Object> value) {
+}
@@ -0,0 +1,33 @@
+package com.example.stayfinder.service.export;
+
+import com.example.stayfinder.exception.DataProcessingException;
+import java.util.Locale;
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    CSV(new MediaType("text", "csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    ExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat of(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DataProcessingException(
+                    "Unsupported export format: " + format + ", use csv or ndjson");
+        }
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileName(String name) {
+        return name + "." + name().toLowerCase(Locale.ROOT);
+    }
+}
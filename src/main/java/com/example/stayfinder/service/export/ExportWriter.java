@@ -0,0 +1,93 @@
+package com.example.stayfinder.service.export;
+
+import com.example.stayfinder.exception.DataProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExportWriter {
+    private final ObjectMapper objectMapper;
+
+    public ExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> void write(Stream<T> rows,
+                          ExportFormat format,
+                          List<ExportColumn<T>> columns,
+                          OutputStream outputStream) {
+        try {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == ExportFormat.CSV) {
+                writeCsv(rows.iterator(), columns, writer);
+            } else {
+                writeNdjson(rows.iterator(), columns, writer);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't write export data", e);
+        }
+    }
+
+    private <T> void writeCsv(Iterator<T> rows, List<ExportColumn<T>> columns, Writer writer)
+            throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            writeCsvValue(writer, i, columns.get(i).name());
+        }
+        writer.write('\n');
+        while (rows.hasNext()) {
+            T row = rows.next();
+            for (int i = 0; i < columns.size(); i++) {
+                writeCsvValue(writer, i, columns.get(i).value().apply(row));
+            }
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsvValue(Writer writer, int index, Object value) throws IOException {
+        if (index > 0) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0
+                && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private <T> void writeNdjson(Iterator<T> rows, List<ExportColumn<T>> columns, Writer writer)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null)) {
+            while (rows.hasNext()) {
+                T row = rows.next();
+                generator.writeStartObject();
+                for (ExportColumn<T> column : columns) {
+                    generator.writeFieldName(column.name());
+                    generator.writeObject(column.value().apply(row));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.stayfinder.service.notification;
+
+import com.example.stayfinder.dto.notification.DeadLetterDto;
+import com.example.stayfinder.dto.notification.DeadLetterReplayRequestDto;
+import com.example.stayfinder.dto.notification.DeadLetterReplayResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface DeadLetterService {
+    Page<DeadLetterDto> findAll(Pageable pageable);
+
+    DeadLetterReplayResponseDto replay(DeadLetterReplayRequestDto requestDto);
+}
@@ -0,0 +1,39 @@
+package com.example.stayfinder.service.notification;
+
+import com.example.stayfinder.dto.notification.DeadLetterDto;
+import com.example.stayfinder.dto.notification.DeadLetterReplayRequestDto;
+import com.example.stayfinder.dto.notification.DeadLetterReplayResponseDto;
+import com.example.stayfinder.repository.notification.NotificationDeadLetterRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class DeadLetterServiceImpl implements DeadLetterService {
+    private final NotificationDeadLetterRepository deadLetterRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DeadLetterDto> findAll(Pageable pageable) {
+        List<DeadLetterDto> deadLetters = deadLetterRepository.findAll(
+                pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(deadLetters, pageable, deadLetterRepository.countAll());
+    }
+
+    @Override
+    @Transactional
+    public DeadLetterReplayResponseDto replay(DeadLetterReplayRequestDto requestDto) {
+        if (requestDto.ids() == null) {
+            return new DeadLetterReplayResponseDto(deadLetterRepository.replayAll());
+        }
+        if (requestDto.ids().isEmpty()) {
+            return new DeadLetterReplayResponseDto(0);
+        }
+        return new DeadLetterReplayResponseDto(deadLetterRepository.replay(requestDto.ids()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.stayfinder.service.notification;
+
+import com.example.stayfinder.model.NotificationChannel;
+import com.example.stayfinder.model.NotificationPriority;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface NotificationChannelSender {
+    NotificationChannel getChannel();
+
+    Map<Long, String> findRecipients(Collection<Long> userIds);
+
+    List<CompletableFuture<Void>> sendAll(List<ChannelMessage> messages);
+
+    record ChannelMessage(
+            String recipient,
+            String text,
+            NotificationPriority priority) {
+    }
+}
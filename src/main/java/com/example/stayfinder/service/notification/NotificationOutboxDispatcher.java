@@ -0,0 +1,306 @@
+package com.example.stayfinder.service.notification;
+
+import com.example.stayfinder.model.NotificationChannel;
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.repository.notification.NotificationOutboxRepository;
+import com.example.stayfinder.repository.user.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+    private static final int MAX_MESSAGE_LENGTH = 4096;
+    private static final String DIGEST_SEPARATOR = "\n\n";
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserRepository userRepository;
+    private final Map<NotificationChannel, NotificationChannelSender> senders =
+            new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, List<NotificationChannel>> channelsByPreference =
+            new EnumMap<>(NotificationChannel.class);
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter unreachableCounter;
+    private final Counter deadLetteredCounter;
+    private final Counter coalescedCounter;
+    private final NotificationChannel defaultChannel;
+    private final int batchSize;
+    private final long retryDelay;
+    private final long maxRetryDelay;
+    private final int maxAttempts;
+    private final long sendTimeout;
+    private final long leaseTime;
+
+    public NotificationOutboxDispatcher(
+            NotificationOutboxRepository notificationOutboxRepository,
+            UserRepository userRepository,
+            List<NotificationChannelSender> senders,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notification.default-channel}") NotificationChannel defaultChannel,
+            @Value("${notification.outbox.batch-size}") int batchSize,
+            @Value("${notification.outbox.retry-delay}") long retryDelay,
+            @Value("${notification.outbox.max-retry-delay}") long maxRetryDelay,
+            @Value("${notification.outbox.max-attempts}") int maxAttempts,
+            @Value("${notification.outbox.send-timeout}") long sendTimeout,
+            @Value("${notification.outbox.lease-time}") long leaseTime) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.userRepository = userRepository;
+        senders.forEach(sender -> this.senders.put(sender.getChannel(), sender));
+        for (NotificationChannel preferred : NotificationChannel.values()) {
+            List<NotificationChannel> channels = new ArrayList<>();
+            if (this.senders.containsKey(preferred)) {
+                channels.add(preferred);
+            }
+            this.senders.keySet().stream()
+                    .filter(channel -> channel != preferred)
+                    .forEach(channels::add);
+            channelsByPreference.put(preferred, channels);
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.sentCounter = meterRegistry.counter("notifications.outbox", "result", "sent");
+        this.failedCounter = meterRegistry.counter("notifications.outbox", "result", "failed");
+        this.unreachableCounter = meterRegistry.counter(
+                "notifications.outbox", "result", "unreachable");
+        this.deadLetteredCounter = meterRegistry.counter(
+                "notifications.outbox", "result", "dead_lettered");
+        this.coalescedCounter = meterRegistry.counter("notifications.outbox.coalesced");
+        this.defaultChannel = defaultChannel;
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.maxAttempts = maxAttempts;
+        this.sendTimeout = sendTimeout;
+        this.leaseTime = leaseTime;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval}")
+    public void dispatch() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched >= batchSize);
+    }
+
+    private int dispatchBatch() {
+        List<NotificationOutboxRepository.OutboxMessage> messages =
+                notificationOutboxRepository.leaseAvailable(batchSize, leaseTime);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Integer> attempts = messages.stream().collect(Collectors.toMap(
+                NotificationOutboxRepository.OutboxMessage::id,
+                NotificationOutboxRepository.OutboxMessage::attempts));
+        List<Digest> digests = coalesce(messages);
+        Map<Long, Route> routes = findRoutes(digests.stream()
+                .map(digest -> digest.userId)
+                .collect(Collectors.toSet()));
+        List<Long> sentIds = new ArrayList<>();
+        List<NotificationOutboxRepository.FailedMessage> failedMessages = new ArrayList<>();
+        List<Long> unreachableIds = new ArrayList<>();
+        Map<NotificationChannel, List<Digest>> digestsByChannel =
+                new EnumMap<>(NotificationChannel.class);
+        for (Digest digest : digests) {
+            Route route = routes.get(digest.userId);
+            if (route == null) {
+                unreachableIds.addAll(digest.ids);
+            } else {
+                digest.recipient = route.recipient();
+                digestsByChannel.computeIfAbsent(route.channel(), channel -> new ArrayList<>())
+                        .add(digest);
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeout);
+        digestsByChannel.forEach((channel, channelDigests) ->
+                deliver(channel, channelDigests, deadline, sentIds, failedMessages));
+        List<Long> deletedIds = new ArrayList<>(sentIds);
+        deletedIds.addAll(unreachableIds);
+        List<Long> retriedIds = new ArrayList<>();
+        List<NotificationOutboxRepository.FailedMessage> deadMessages = new ArrayList<>();
+        for (NotificationOutboxRepository.FailedMessage failedMessage : failedMessages) {
+            if (attempts.get(failedMessage.id()) >= maxAttempts) {
+                deadMessages.add(failedMessage);
+            } else {
+                retriedIds.add(failedMessage.id());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                acknowledge(deletedIds, retriedIds, deadMessages));
+        sentCounter.increment(sentIds.size());
+        failedCounter.increment(retriedIds.size());
+        deadLetteredCounter.increment(deadMessages.size());
+        unreachableCounter.increment(unreachableIds.size());
+        coalescedCounter.increment(messages.size() - digests.size());
+        return messages.size();
+    }
+
+    private void acknowledge(List<Long> deletedIds, List<Long> retriedIds,
+                             List<NotificationOutboxRepository.FailedMessage> deadMessages) {
+        if (!deletedIds.isEmpty()) {
+            notificationOutboxRepository.deleteAll(deletedIds);
+        }
+        if (!retriedIds.isEmpty()) {
+            notificationOutboxRepository.postponeAll(retriedIds, retryDelay, maxRetryDelay);
+        }
+        if (!deadMessages.isEmpty()) {
+            notificationOutboxRepository.deadLetterAll(deadMessages);
+        }
+    }
+
+    private List<Digest> coalesce(List<NotificationOutboxRepository.OutboxMessage> messages) {
+        Map<Long, List<NotificationOutboxRepository.OutboxMessage>> messagesByUser =
+                messages.stream().collect(Collectors.groupingBy(
+                        NotificationOutboxRepository.OutboxMessage::userId,
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+        List<Digest> digests = new ArrayList<>();
+        messagesByUser.forEach((userId, userMessages) -> {
+            Digest digest = null;
+            for (NotificationOutboxRepository.OutboxMessage message : userMessages) {
+                if (digest == null || !digest.fits(message)) {
+                    digest = new Digest(userId);
+                    digests.add(digest);
+                }
+                digest.add(message);
+            }
+        });
+        return digests;
+    }
+
+    private Map<Long, Route> findRoutes(Set<Long> userIds) {
+        Map<Long, NotificationChannel> preferences = new HashMap<>();
+        for (UserRepository.UserChannel userChannel
+                : userRepository.findAllChannelsByIdIn(userIds)) {
+            preferences.put(userChannel.getId(), userChannel.getNotificationChannel() == null
+                    ? defaultChannel
+                    : userChannel.getNotificationChannel());
+        }
+        Map<Long, Route> routes = new HashMap<>();
+        for (int choice = 0; choice < senders.size(); choice++) {
+            Map<NotificationChannel, List<Long>> userIdsByChannel =
+                    new EnumMap<>(NotificationChannel.class);
+            for (Map.Entry<Long, NotificationChannel> preference : preferences.entrySet()) {
+                List<NotificationChannel> channels =
+                        channelsByPreference.get(preference.getValue());
+                if (!routes.containsKey(preference.getKey()) && choice < channels.size()) {
+                    userIdsByChannel.computeIfAbsent(channels.get(choice),
+                            channel -> new ArrayList<>()).add(preference.getKey());
+                }
+            }
+            userIdsByChannel.forEach((channel, channelUserIds) ->
+                    findRecipients(channel, channelUserIds).forEach((userId, recipient) ->
+                            routes.put(userId, new Route(channel, recipient))));
+        }
+        return routes;
+    }
+
+    private Map<Long, String> findRecipients(NotificationChannel channel,
+                                             Collection<Long> userIds) {
+        try {
+            return senders.get(channel).findRecipients(userIds);
+        } catch (RuntimeException e) {
+            log.warn("Can't resolve {} recipients for users {}", channel, userIds, e);
+            return Map.of();
+        }
+    }
+
+    private void deliver(NotificationChannel channel, List<Digest> digests, long deadline,
+                         List<Long> sentIds,
+                         List<NotificationOutboxRepository.FailedMessage> failedMessages) {
+        List<CompletableFuture<Void>> deliveries = senders.get(channel).sendAll(digests.stream()
+                .map(digest -> new NotificationChannelSender.ChannelMessage(
+                        digest.recipient, digest.text.toString(), digest.priority))
+                .toList());
+        String channelTag = channel.name().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < digests.size(); i++) {
+            Digest digest = digests.get(i);
+            String error = awaitDelivery(digest, deliveries.get(i), deadline);
+            if (error == null) {
+                sentIds.addAll(digest.ids);
+            } else {
+                digest.ids.forEach(id -> failedMessages.add(
+                        new NotificationOutboxRepository.FailedMessage(id, error)));
+            }
+            meterRegistry.counter("notifications.channel", "channel", channelTag,
+                    "result", error == null ? "sent" : "failed").increment(digest.ids.size());
+        }
+    }
+
+    private String awaitDelivery(Digest digest,
+                                 CompletableFuture<Void> delivery,
+                                 long deadline) {
+        try {
+            delivery.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted while waiting for delivery";
+        } catch (TimeoutException e) {
+            delivery.cancel(false);
+            log.warn("Timed out delivering outbox notifications {} to user {}",
+                    digest.ids, digest.userId);
+            return "Timed out after " + sendTimeout + " ms";
+        } catch (ExecutionException e) {
+            log.warn("Can't deliver outbox notifications {} to user {}",
+                    digest.ids, digest.userId, e);
+            return String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    private record Route(
+            NotificationChannel channel,
+            String recipient) {
+    }
+
+    private static final class Digest {
+        private final Long userId;
+        private final List<Long> ids = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private NotificationPriority priority = NotificationPriority.BROADCAST;
+        private String recipient;
+
+        private Digest(Long userId) {
+            this.userId = userId;
+        }
+
+        private boolean fits(NotificationOutboxRepository.OutboxMessage message) {
+            return text.length() + DIGEST_SEPARATOR.length() + message.message().length()
+                    <= MAX_MESSAGE_LENGTH;
+        }
+
+        private void add(NotificationOutboxRepository.OutboxMessage message) {
+            if (!ids.isEmpty()) {
+                text.append(DIGEST_SEPARATOR);
+            }
+            text.append(message.message());
+            ids.add(message.id());
+            if (message.priority().compareTo(priority) < 0) {
+                priority = message.priority();
+            }
+        }
+    }
+}
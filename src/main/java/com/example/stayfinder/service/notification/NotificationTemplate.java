@@ -0,0 +1,78 @@
+package com.example.stayfinder.service.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class NotificationTemplate {
+    private static final int INITIAL_BUILDER_CAPACITY = 512;
+    private static final int MAX_BUILDER_CAPACITY = 8192;
+    private static final ThreadLocal<StringBuilder> BUILDER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUILDER_CAPACITY));
+    private final String[] literals;
+    private final int[] argumentIndexes;
+    private final int arity;
+
+    private NotificationTemplate(String[] literals, int[] argumentIndexes) {
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+        int maxIndex = -1;
+        for (int argumentIndex : argumentIndexes) {
+            maxIndex = Math.max(maxIndex, argumentIndex);
+        }
+        this.arity = maxIndex + 1;
+    }
+
+    public static NotificationTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> argumentIndexes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < pattern.length()) {
+            char current = pattern.charAt(position);
+            int end = current == '{' ? pattern.indexOf('}', position) : -1;
+            if (end > position + 1 && isNumber(pattern, position + 1, end)) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                argumentIndexes.add(Integer.parseInt(pattern, position + 1, end, 10));
+                position = end + 1;
+            } else {
+                literal.append(current);
+                position++;
+            }
+        }
+        literals.add(literal.toString());
+        return new NotificationTemplate(literals.toArray(String[]::new),
+                argumentIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public String render(Object... arguments) {
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        appendTo(builder, arguments);
+        String message = builder.toString();
+        if (builder.capacity() > MAX_BUILDER_CAPACITY) {
+            BUILDER.remove();
+        }
+        return message;
+    }
+
+    public void appendTo(StringBuilder builder, Object... arguments) {
+        if (arguments.length < arity) {
+            throw new IllegalArgumentException("Notification template expects "
+                    + arity + " arguments, but got " + arguments.length);
+        }
+        builder.append(literals[0]);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            builder.append(arguments[argumentIndexes[i]]).append(literals[i + 1]);
+        }
+    }
+
+    private static boolean isNumber(String pattern, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isDigit(pattern.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
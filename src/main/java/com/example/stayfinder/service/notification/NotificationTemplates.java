@@ -1,42 +1,42 @@
 package com.example.stayfinder.service.notification;
 
-public class NotificationTemplates {
-    public static final String BOOKING_CREATED_TEMPLATE =
-            "Type notification: #BOOKING_CREATED%n"
-                    + "Booking detail: %n"
-                    + "           Booking id: %s%n"
-                    + "           Check in date: %s%n"
-                    + "           Check out date: %s%n"
-                    + "           Accommodation Id: %s%n"
-                    + "Reservation owner: %n"
-                    + "           id:  %s%n"
-                    + "           name: %s";
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
 
-    public static final String BOOKING_CANCELED_TEMPLATE =
-            "Type notification: #BOOKING_CANCELED%n"
-                    + "Booking id: %s%n"
-                    + "Reservation owner: %n"
-                    + "           id:  %s%n"
-                    + "           name: %s";
+@Component
+public class NotificationTemplates {
+    private static final String BUNDLE_NAME = "i18n/notifications";
+    private final String defaultLanguage;
+    private final Map<String, Map<NotificationType, NotificationTemplate>> templatesByLanguage =
+            new ConcurrentHashMap<>();
 
-    public static final String ACCOMMODATION_CREATED_MESSAGE =
-            "Type notification: #ACCOMMODATION_CREATED%n"
-                    + "Accommodation detail: %n"
-                    + "           id:  %s%n"
-                    + "           type: %s%n"
-                    + "           size: %s%n"
-                    + "           daily rate: %s";
+    public NotificationTemplates(
+            @Value("${notification.default-language}") String defaultLanguage) {
+        this.defaultLanguage = defaultLanguage.toLowerCase(Locale.ROOT);
+    }
 
-    public static final String ACCOMMODATION_RELEASE_MESSAGE =
-            "#hourly_check%n"
-                    + "    Accommodations with id: %s are released";
+    public NotificationTemplate get(NotificationType type, String languageCode) {
+        String language = languageCode == null || languageCode.isBlank()
+                ? defaultLanguage
+                : languageCode.toLowerCase(Locale.ROOT);
+        return templatesByLanguage.computeIfAbsent(language, this::compile).get(type);
+    }
 
-    public static final String PAYMENT_SUCCESS_MESSAGE =
-            "Type notification: #PAYMENT_CREATED%n"
-                    + "The payment was successful!%n"
-                    + "Payment detail: %n"
-                    + "           id:  %s%n"
-                    + "           bookingId:  %s%n"
-                    + "           status: %s%n"
-                    + "           amount: %s";
+    private Map<NotificationType, NotificationTemplate> compile(String language) {
+        ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME,
+                Locale.forLanguageTag(language),
+                ResourceBundle.Control.getNoFallbackControl(
+                        ResourceBundle.Control.FORMAT_PROPERTIES));
+        Map<NotificationType, NotificationTemplate> templates =
+                new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            templates.put(type, NotificationTemplate.compile(bundle.getString(type.getKey())));
+        }
+        return templates;
+    }
 }
@@ -0,0 +1,19 @@
+package com.example.stayfinder.service.notification;
+
+public enum NotificationType {
+    BOOKING_CREATED("booking.created"),
+    BOOKING_CANCELED("booking.canceled"),
+    ACCOMMODATION_CREATED("accommodation.created"),
+    ACCOMMODATION_RELEASED("accommodation.released"),
+    PAYMENT_SUCCESS("payment.success");
+
+    private final String key;
+
+    NotificationType(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
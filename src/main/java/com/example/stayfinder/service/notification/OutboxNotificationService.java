@@ -0,0 +1,106 @@
+package com.example.stayfinder.service.notification;
+
+import com.example.stayfinder.model.Accommodation;
+import com.example.stayfinder.model.Booking;
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.model.Payment;
+import com.example.stayfinder.model.User;
+import com.example.stayfinder.repository.notification.NotificationOutboxRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxNotificationService implements NotificationService {
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationTemplates notificationTemplates;
+    private final long digestWindow;
+    private final long digestMaxDelay;
+
+    public OutboxNotificationService(
+            NotificationOutboxRepository notificationOutboxRepository,
+            NotificationTemplates notificationTemplates,
+            @Value("${notification.digest.window}") long digestWindow,
+            @Value("${notification.digest.max-delay}") long digestMaxDelay) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationTemplates = notificationTemplates;
+        this.digestWindow = digestWindow;
+        this.digestMaxDelay = digestMaxDelay;
+    }
+
+    @Override
+    public void sendCreateBookingMessage(Accommodation accommodation, User user, Booking booking) {
+        coalesce(user.getId(),
+                getTemplate(NotificationType.BOOKING_CREATED, user).render(
+                        booking.getId(),
+                        booking.getCheckInDate(),
+                        booking.getCheckOutDate(),
+                        accommodation.getId(),
+                        user.getId(),
+                        user.getFirstName(),
+                        user.getLastName()));
+    }
+
+    @Override
+    public void sendCancelBookingMessage(User user, Booking booking) {
+        coalesce(user.getId(),
+                getTemplate(NotificationType.BOOKING_CANCELED, user).render(
+                        booking.getId(),
+                        user.getId(),
+                        user.getFirstName(),
+                        user.getLastName()));
+    }
+
+    @Override
+    public void sendCreateAccommodationMessage(Accommodation accommodation, User user) {
+        coalesce(user.getId(),
+                getTemplate(NotificationType.ACCOMMODATION_CREATED, user).render(
+                        accommodation.getId(),
+                        accommodation.getType(),
+                        accommodation.getSize(),
+                        accommodation.getDailyRate()));
+    }
+
+    @Override
+    public void sendReleaseAccommodationMessage(Set<Long> accommodationIds, List<User> userList) {
+        String releasedIds = accommodationIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+        Map<NotificationTemplate, List<Long>> userIdsByTemplate = userList.stream()
+                .collect(Collectors.groupingBy(
+                        user -> getTemplate(NotificationType.ACCOMMODATION_RELEASED, user),
+                        Collectors.mapping(User::getId, Collectors.toList())));
+        userIdsByTemplate.forEach((template, userIds) ->
+                notificationOutboxRepository.saveAll(userIds,
+                        template.render(releasedIds),
+                        NotificationPriority.BROADCAST));
+    }
+
+    @Override
+    public void sendSuccessPaymentMessage(Payment payment) {
+        User user = payment.getBooking().getUser();
+        notificationOutboxRepository.save(user.getId(),
+                getTemplate(NotificationType.PAYMENT_SUCCESS, user).render(
+                        payment.getId(),
+                        payment.getBooking().getId(),
+                        payment.getStatus(),
+                        payment.getAmount()),
+                NotificationPriority.TRANSACTIONAL);
+    }
+
+    private void coalesce(Long userId, String message) {
+        notificationOutboxRepository.postponePending(userId, digestWindow, digestMaxDelay);
+        notificationOutboxRepository.save(
+                userId, message, NotificationPriority.TRANSACTIONAL, digestWindow);
+    }
+
+    private NotificationTemplate getTemplate(NotificationType type, User user) {
+        return notificationTemplates.get(type, user.getLanguageCode());
+    }
+}
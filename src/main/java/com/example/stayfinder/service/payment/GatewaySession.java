@@ -0,0 +1,7 @@
+package com.example.stayfinder.service.payment;
+
+public record GatewaySession(
+        String id,
+        String url,
+        Long expiresAt) {
+}
@@ -0,0 +1,7 @@
+package com.example.stayfinder.service.payment;
+
+public enum GatewaySessionState {
+    OPEN,
+    PAID,
+    EXPIRED
+}
@@ -0,0 +1,47 @@
+package com.example.stayfinder.service.payment;
+
+import com.example.stayfinder.repository.payment.PaymentBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentExpirySweeper {
+    private final PaymentBatchRepository paymentBatchRepository;
+    private final Timer sweepTimer;
+    private final Counter expiredPaymentsCounter;
+    private final Counter expiredBookingsCounter;
+    private final int chunkSize;
+    private final long timeBudget;
+
+    public PaymentExpirySweeper(PaymentBatchRepository paymentBatchRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${payment.expiry.chunk-size}") int chunkSize,
+                                @Value("${payment.expiry.time-budget}") long timeBudget) {
+        this.paymentBatchRepository = paymentBatchRepository;
+        this.sweepTimer = meterRegistry.timer("payments.expiry.sweep");
+        this.expiredPaymentsCounter = meterRegistry.counter(
+                "payments.expiry.rows", "table", "payments");
+        this.expiredBookingsCounter = meterRegistry.counter(
+                "payments.expiry.rows", "table", "bookings");
+        this.chunkSize = chunkSize;
+        this.timeBudget = timeBudget;
+    }
+
+    public void sweep() {
+        sweepTimer.record(this::sweepChunks);
+    }
+
+    private void sweepChunks() {
+        long deadline = System.currentTimeMillis() + timeBudget;
+        long currentTimestamp = System.currentTimeMillis() / 1000;
+        PaymentBatchRepository.ExpiredPayments chunk;
+        do {
+            chunk = paymentBatchRepository.expirePendingPayments(currentTimestamp, chunkSize);
+            expiredPaymentsCounter.increment(chunk.payments());
+            expiredBookingsCounter.increment(chunk.bookings());
+        } while (chunk.payments() == chunkSize && System.currentTimeMillis() < deadline);
+    }
+}
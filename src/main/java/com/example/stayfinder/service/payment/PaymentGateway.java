@@ -0,0 +1,9 @@
+package com.example.stayfinder.service.payment;
+
+import com.example.stayfinder.model.Money;
+
+public interface PaymentGateway {
+    GatewaySession createSession(Money amount, String idempotencyKey);
+
+    GatewaySessionState getSessionState(String sessionId);
+}
@@ -0,0 +1,171 @@
+package com.example.stayfinder.service.payment;
+
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.model.Payment;
+import com.example.stayfinder.repository.payment.PaymentBatchRepository;
+import com.example.stayfinder.service.notification.NotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class PaymentReconciler {
+    private final PaymentBatchRepository paymentBatchRepository;
+    private final PaymentGateway paymentGateway;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer reconciliationTimer;
+    private final Counter confirmedCounter;
+    private final Counter expiredCounter;
+    private final Counter unresolvedCounter;
+    private final Counter failedCounter;
+    private final int pageSize;
+    private final int threads;
+    private final int queueCapacity;
+    private final long lookback;
+    private ExecutorService gatewayExecutor;
+
+    public PaymentReconciler(PaymentBatchRepository paymentBatchRepository,
+                             PaymentGateway paymentGateway,
+                             NotificationService notificationService,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${payment.reconciliation.page-size}") int pageSize,
+                             @Value("${payment.reconciliation.threads}") int threads,
+                             @Value("${payment.reconciliation.queue-capacity}") int queueCapacity,
+                             @Value("${payment.reconciliation.lookback}") long lookback) {
+        this.paymentBatchRepository = paymentBatchRepository;
+        this.paymentGateway = paymentGateway;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconciliationTimer = meterRegistry.timer("payments.reconciliation");
+        this.confirmedCounter = meterRegistry.counter(
+                "payments.reconciliation.drift", "type", "confirmed");
+        this.expiredCounter = meterRegistry.counter(
+                "payments.reconciliation.drift", "type", "expired");
+        this.unresolvedCounter = meterRegistry.counter(
+                "payments.reconciliation.drift", "type", "unresolved");
+        this.failedCounter = meterRegistry.counter("payments.reconciliation.failures");
+        this.pageSize = pageSize;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        this.lookback = lookback;
+    }
+
+    @PostConstruct
+    public void init() {
+        gatewayExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        gatewayExecutor.shutdownNow();
+    }
+
+    public PaymentReconciliationReport reconcile() {
+        PaymentReconciliationReport report = reconciliationTimer.record(this::reconcilePages);
+        log.info("Payment reconciliation finished: {}", report);
+        return report;
+    }
+
+    private PaymentReconciliationReport reconcilePages() {
+        long sinceTimestamp = System.currentTimeMillis() / 1000 - lookback;
+        List<Future<PaymentReconciliationReport>> results = new ArrayList<>();
+        List<PaymentBatchRepository.ReconciliationCandidate> page = paymentBatchRepository
+                .findReconciliationCandidates(0L, sinceTimestamp, pageSize);
+        while (!page.isEmpty()) {
+            List<PaymentBatchRepository.ReconciliationCandidate> candidates = page;
+            results.add(gatewayExecutor.submit(() -> reconcilePage(candidates)));
+            page = page.size() < pageSize
+                    ? List.of()
+                    : paymentBatchRepository.findReconciliationCandidates(
+                            page.get(page.size() - 1).paymentId(), sinceTimestamp, pageSize);
+        }
+        return results.stream()
+                .map(this::awaitReport)
+                .reduce(PaymentReconciliationReport.EMPTY, PaymentReconciliationReport::add);
+    }
+
+    private PaymentReconciliationReport reconcilePage(
+            List<PaymentBatchRepository.ReconciliationCandidate> candidates) {
+        List<String> paidSessionIds = new ArrayList<>();
+        List<String> expiredSessionIds = new ArrayList<>();
+        int unresolved = 0;
+        int failed = 0;
+        for (PaymentBatchRepository.ReconciliationCandidate candidate : candidates) {
+            GatewaySessionState state;
+            try {
+                state = paymentGateway.getSessionState(candidate.sessionId());
+            } catch (RuntimeException e) {
+                log.warn("Can't fetch gateway state of payment session {}",
+                        candidate.sessionId(), e);
+                failed++;
+                continue;
+            }
+            if (state == GatewaySessionState.PAID) {
+                paidSessionIds.add(candidate.sessionId());
+            } else if (state == GatewaySessionState.EXPIRED
+                    && candidate.status() == Payment.PaymentStatus.PENDING) {
+                expiredSessionIds.add(candidate.sessionId());
+            } else if (state == GatewaySessionState.OPEN
+                    && candidate.status() == Payment.PaymentStatus.EXPIRED) {
+                log.warn("Payment {} is expired but its gateway session {} is still open",
+                        candidate.paymentId(), candidate.sessionId());
+                unresolved++;
+            }
+        }
+
+        List<PaymentBatchRepository.PaymentStatusUpdate> confirmed = paidSessionIds.isEmpty()
+                ? List.of()
+                : transactionTemplate.execute(status -> confirmSessions(paidSessionIds));
+        int expired = expiredSessionIds.isEmpty()
+                ? 0
+                : transactionTemplate.execute(status -> paymentBatchRepository
+                        .expireSessions(expiredSessionIds).payments());
+
+        confirmedCounter.increment(confirmed.size());
+        expiredCounter.increment(expired);
+        unresolvedCounter.increment(unresolved);
+        failedCounter.increment(failed);
+        return new PaymentReconciliationReport(
+                candidates.size(), confirmed.size(), expired, unresolved, failed);
+    }
+
+    private List<PaymentBatchRepository.PaymentStatusUpdate> confirmSessions(
+            List<String> sessionIds) {
+        List<PaymentBatchRepository.PaymentStatusUpdate> confirmed =
+                paymentBatchRepository.confirmSessions(sessionIds);
+        confirmed.forEach(update ->
+                notificationService.sendSuccessPaymentMessage(update.toPayment()));
+        return confirmed;
+    }
+
+    private PaymentReconciliationReport awaitReport(
+            Future<PaymentReconciliationReport> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataProcessingException("Payment reconciliation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new DataProcessingException("Payment reconciliation page failed", e.getCause());
+        }
+    }
+}
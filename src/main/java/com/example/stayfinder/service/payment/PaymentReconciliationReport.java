@@ -0,0 +1,20 @@
+package com.example.stayfinder.service.payment;
+
+public record PaymentReconciliationReport(
+        int checked,
+        int confirmed,
+        int expired,
+        int unresolved,
+        int failed) {
+    public static final PaymentReconciliationReport EMPTY =
+            new PaymentReconciliationReport(0, 0, 0, 0, 0);
+
+    public PaymentReconciliationReport add(PaymentReconciliationReport other) {
+        return new PaymentReconciliationReport(
+                checked + other.checked,
+                confirmed + other.confirmed,
+                expired + other.expired,
+                unresolved + other.unresolved,
+                failed + other.failed);
+    }
+}
@@ -3,13 +3,15 @@ package com.example.stayfinder.service.payment;
 import com.example.stayfinder.dto.payment.PaymentDto;
 import com.example.stayfinder.dto.payment.PaymentLowInfoDto;
 import com.example.stayfinder.dto.payment.PaymentWithoutSessionDto;
+import com.example.stayfinder.service.export.ExportFormat;
+import java.io.OutputStream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface PaymentService {
     Page<PaymentLowInfoDto> findAllByBookingUserId(Long userId, Pageable pageable);
 
-    PaymentDto createSession(Long bookingId);
+    PaymentDto createSession(Long bookingId, String idempotencyKey);
 
     PaymentWithoutSessionDto processSuccessfulPayment(String sessionId);
 
@@ -18,4 +20,8 @@ public interface PaymentService {
     boolean existsByBookingUserIdAndStatus(Long userId);
 
     void checkExpiredPayments();
+
+    void reconcilePayments();
+
+    void exportPayments(ExportFormat format, OutputStream outputStream);
 }
@@ -0,0 +1,182 @@
+package com.example.stayfinder.service.payment;
+
+import com.example.stayfinder.dto.payment.PaymentDto;
+import com.example.stayfinder.dto.payment.PaymentExportDto;
+import com.example.stayfinder.dto.payment.PaymentLowInfoDto;
+import com.example.stayfinder.dto.payment.PaymentWithoutSessionDto;
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.exception.EntityNotFoundException;
+import com.example.stayfinder.mapper.PaymentMapper;
+import com.example.stayfinder.model.Booking;
+import com.example.stayfinder.model.Money;
+import com.example.stayfinder.model.Payment;
+import com.example.stayfinder.repository.booking.BookingRepository;
+import com.example.stayfinder.repository.payment.PaymentBatchRepository;
+import com.example.stayfinder.repository.payment.PaymentRepository;
+import com.example.stayfinder.service.export.ExportColumn;
+import com.example.stayfinder.service.export.ExportFormat;
+import com.example.stayfinder.service.export.ExportWriter;
+import com.example.stayfinder.service.notification.NotificationService;
+import java.io.OutputStream;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PaymentServiceImpl implements PaymentService {
+    private static final List<ExportColumn<PaymentExportDto>> EXPORT_COLUMNS = List.of(
+            new ExportColumn<>("id", PaymentExportDto::id),
+            new ExportColumn<>("booking_id", PaymentExportDto::bookingId),
+            new ExportColumn<>("session_id", PaymentExportDto::sessionId),
+            new ExportColumn<>("amount", payment -> payment.amount().toBigDecimal()),
+            new ExportColumn<>("currency", payment -> payment.amount().currency()),
+            new ExportColumn<>("status", PaymentExportDto::status),
+            new ExportColumn<>("expired_time", PaymentExportDto::expiredTime));
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentBatchRepository paymentBatchRepository;
+    private final PaymentMapper paymentMapper;
+    private final BookingRepository bookingRepository;
+    private final NotificationService notificationService;
+    private final PaymentSessionCache paymentSessionCache;
+    private final PaymentGateway paymentGateway;
+    private final PaymentExpirySweeper paymentExpirySweeper;
+    private final PaymentReconciler paymentReconciler;
+    private final ExportWriter exportWriter;
+
+    @Override
+    public Page<PaymentLowInfoDto> findAllByBookingUserId(Long userId, Pageable pageable) {
+        Page<Payment> paymentsPage = paymentRepository.findByBookingUserId(userId, pageable);
+        if (paymentsPage.isEmpty()) {
+            throw new EntityNotFoundException("No payments found for user id: " + userId);
+        }
+        return paymentsPage.map(paymentMapper::toLowInfoDto);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PaymentDto createSession(Long bookingId, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            PaymentDto cachedPayment = paymentSessionCache.get(bookingId, idempotencyKey);
+            if (cachedPayment != null) {
+                return cachedPayment;
+            }
+        }
+
+        Payment payment = paymentRepository
+                .findFirstByBookingIdAndStatusAndExpiredTimeGreaterThan(
+                        bookingId, Payment.PaymentStatus.PENDING, getCurrentTimestamp())
+                .orElseGet(() -> createPayment(bookingId, idempotencyKey));
+        PaymentDto paymentDto = paymentMapper.toDto(payment);
+        if (idempotencyKey != null) {
+            paymentSessionCache.put(
+                    bookingId, idempotencyKey, paymentDto, payment.getExpiredTime());
+        }
+        return paymentDto;
+    }
+
+    @Override
+    public PaymentWithoutSessionDto processSuccessfulPayment(String sessionId) {
+        Payment payment = updateStatusBySessionId(
+                sessionId, Payment.PaymentStatus.PAID, Booking.Status.CONFIRMED).toPayment();
+        notificationService.sendSuccessPaymentMessage(payment);
+
+        return paymentMapper.toWithoutSessionDto(payment);
+    }
+
+    @Override
+    public String processCancelPayment(String sessionId) {
+        updateStatusBySessionId(sessionId, Payment.PaymentStatus.PENDING, Booking.Status.PENDING);
+
+        return String.format("The payment for session ID '%s' "
+                + "has been canceled and can be made later.", sessionId);
+    }
+
+    @Override
+    public boolean existsByBookingUserIdAndStatus(Long userId) {
+        return paymentRepository.existsByBookingUserIdAndStatus(
+                userId, Payment.PaymentStatus.PENDING);
+    }
+
+    @Scheduled(cron = "0 1 * * * *")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void checkExpiredPayments() {
+        paymentExpirySweeper.sweep();
+    }
+
+    @Scheduled(cron = "${payment.reconciliation.cron}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void reconcilePayments() {
+        paymentReconciler.reconcile();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPayments(ExportFormat format, OutputStream outputStream) {
+        try (Stream<PaymentExportDto> payments = paymentRepository.streamAllForExport()) {
+            exportWriter.write(payments, format, EXPORT_COLUMNS, outputStream);
+        }
+    }
+
+    private PaymentBatchRepository.PaymentStatusUpdate updateStatusBySessionId(
+            String sessionId, Payment.PaymentStatus paymentStatus, Booking.Status bookingStatus) {
+        return paymentBatchRepository
+                .updateStatusBySessionId(sessionId, paymentStatus, bookingStatus)
+                .orElseThrow(() -> getStatusUpdateException(sessionId, paymentStatus));
+    }
+
+    private RuntimeException getStatusUpdateException(
+            String sessionId, Payment.PaymentStatus paymentStatus) {
+        if (paymentRepository.findBySessionId(sessionId).isPresent()) {
+            return new DataProcessingException("Payment with session id " + sessionId
+                    + " is already paid and can't be set to " + paymentStatus);
+        }
+        return new EntityNotFoundException("Payment not found by session id: " + sessionId);
+    }
+
+    private Payment createPayment(Long bookingId, String idempotencyKey) {
+        Booking booking = getBookingById(bookingId);
+        Money totalAmount = calculateTotalAmount(booking);
+        GatewaySession session = paymentGateway.createSession(totalAmount, idempotencyKey == null
+                ? null : "payment-session-" + bookingId + "-" + idempotencyKey);
+        return savePayment(booking, session, totalAmount);
+    }
+
+    private Payment savePayment(Booking booking, GatewaySession session, Money totalAmount) {
+        Payment payment = new Payment()
+                .setBooking(booking)
+                .setSessionId(session.id())
+                .setSessionUrl(session.url())
+                .setExpiredTime(session.expiresAt())
+                .setAmount(totalAmount)
+                .setStatus(Payment.PaymentStatus.PENDING);
+        return paymentRepository.save(payment);
+    }
+
+    private Booking getBookingById(Long bookingId) {
+        return bookingRepository.findWithAccommodationById(bookingId).orElseThrow(
+                () -> new EntityNotFoundException("Booking not found by id: " + bookingId));
+    }
+
+    private Money calculateTotalAmount(Booking booking) {
+        long days = ChronoUnit.DAYS.between(
+                booking.getCheckInDate().toLocalDate(),
+                booking.getCheckOutDate().toLocalDate());
+        return booking.getAccommodation().getDailyRate().times(days);
+    }
+
+    private Long getCurrentTimestamp() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.stayfinder.service.payment;
+
+import com.example.stayfinder.dto.payment.PaymentDto;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentSessionCache {
+    private final Map<String, CachedSession> sessions;
+
+    public PaymentSessionCache(@Value("${stripe.idempotency.cache.max-size}") int maxSize) {
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSession> eldest) {
+                return size() > maxSize || eldest.getValue().expiresAt() <= currentTimestamp();
+            }
+        };
+    }
+
+    public PaymentDto get(Long bookingId, String idempotencyKey) {
+        String key = toKey(bookingId, idempotencyKey);
+        synchronized (sessions) {
+            CachedSession session = sessions.get(key);
+            if (session == null) {
+                return null;
+            }
+            if (session.expiresAt() <= currentTimestamp()) {
+                sessions.remove(key);
+                return null;
+            }
+            return session.payment();
+        }
+    }
+
+    public void put(Long bookingId, String idempotencyKey, PaymentDto payment, long expiresAt) {
+        synchronized (sessions) {
+            sessions.put(toKey(bookingId, idempotencyKey), new CachedSession(payment, expiresAt));
+        }
+    }
+
+    private String toKey(Long bookingId, String idempotencyKey) {
+        return bookingId + ":" + idempotencyKey;
+    }
+
+    private long currentTimestamp() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private record CachedSession(
+            PaymentDto payment,
+            long expiresAt) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.stayfinder.service.payment;
+
+public interface PaymentWebhookService {
+    void receiveEvent(String payload, String signature);
+
+    int processPendingEvents();
+}
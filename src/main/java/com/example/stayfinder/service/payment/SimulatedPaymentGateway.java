@@ -0,0 +1,154 @@
+package com.example.stayfinder.service.payment;
+
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.exception.PaymentGatewayUnavailableException;
+import com.example.stayfinder.model.Money;
+import com.stripe.net.Webhook;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile(SimulatedPaymentGateway.PROFILE)
+public class SimulatedPaymentGateway implements PaymentGateway {
+    public static final String PROFILE = "payment-simulator";
+    private static final String SESSION_URL = "https://payments.simulator.local/checkout/";
+    private static final String EVENT_TEMPLATE = """
+            {"id": "%s", "object": "event", "type": "%s",
+             "data": {"object": {"id": "%s", "object": "checkout.session"}}}""";
+
+    private final PaymentWebhookService paymentWebhookService;
+    private final String webhookSecret;
+    private final long latencyMean;
+    private final long latencyDeviation;
+    private final double failureRate;
+    private final double completionRate;
+    private final double eventLossRate;
+    private final long eventDelay;
+    private final long sessionTtl;
+    private final long sessionRetention;
+    private final int eventThreads;
+    private final Map<String, SimulatedSession> sessions = new ConcurrentHashMap<>();
+    private ScheduledExecutorService eventScheduler;
+
+    public SimulatedPaymentGateway(
+            PaymentWebhookService paymentWebhookService,
+            @Value("${stripe.webhook.secret}") String webhookSecret,
+            @Value("${payment.simulator.latency-mean}") long latencyMean,
+            @Value("${payment.simulator.latency-deviation}") long latencyDeviation,
+            @Value("${payment.simulator.failure-rate}") double failureRate,
+            @Value("${payment.simulator.completion-rate}") double completionRate,
+            @Value("${payment.simulator.event-loss-rate}") double eventLossRate,
+            @Value("${payment.simulator.event-delay}") long eventDelay,
+            @Value("${payment.simulator.session-ttl}") long sessionTtl,
+            @Value("${payment.simulator.session-retention}") long sessionRetention,
+            @Value("${payment.simulator.event-threads}") int eventThreads) {
+        this.paymentWebhookService = paymentWebhookService;
+        this.webhookSecret = webhookSecret;
+        this.latencyMean = latencyMean;
+        this.latencyDeviation = latencyDeviation;
+        this.failureRate = failureRate;
+        this.completionRate = completionRate;
+        this.eventLossRate = eventLossRate;
+        this.eventDelay = eventDelay;
+        this.sessionTtl = sessionTtl;
+        this.sessionRetention = sessionRetention;
+        this.eventThreads = eventThreads;
+    }
+
+    @PostConstruct
+    public void init() {
+        eventScheduler = Executors.newScheduledThreadPool(eventThreads);
+        eventScheduler.scheduleWithFixedDelay(this::evictSettledSessions,
+                sessionRetention, sessionRetention, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        eventScheduler.shutdownNow();
+    }
+
+    @Override
+    public GatewaySession createSession(Money amount, String idempotencyKey) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        simulateLatency(random);
+        if (random.nextDouble() < failureRate) {
+            throw new PaymentGatewayUnavailableException("Simulated payment provider failure");
+        }
+
+        String sessionId = "cs_sim_" + UUID.randomUUID();
+        GatewaySessionState outcome = random.nextDouble() < completionRate
+                ? GatewaySessionState.PAID
+                : GatewaySessionState.EXPIRED;
+        sessions.put(sessionId,
+                new SimulatedSession(outcome, System.currentTimeMillis() + eventDelay));
+        if (random.nextDouble() >= eventLossRate) {
+            String eventType = outcome == GatewaySessionState.PAID
+                    ? "checkout.session.completed"
+                    : "checkout.session.expired";
+            eventScheduler.schedule(() -> emitEvent(eventType, sessionId),
+                    eventDelay, TimeUnit.MILLISECONDS);
+        }
+
+        return new GatewaySession(sessionId, SESSION_URL + sessionId,
+                System.currentTimeMillis() / 1000 + sessionTtl);
+    }
+
+    @Override
+    public GatewaySessionState getSessionState(String sessionId) {
+        simulateLatency(ThreadLocalRandom.current());
+        SimulatedSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new DataProcessingException("Unknown simulated payment session " + sessionId);
+        }
+        return System.currentTimeMillis() < session.settledAt()
+                ? GatewaySessionState.OPEN
+                : session.outcome();
+    }
+
+    private void evictSettledSessions() {
+        long evictBefore = System.currentTimeMillis() - sessionRetention;
+        sessions.values().removeIf(session -> session.settledAt() < evictBefore);
+    }
+
+    private void simulateLatency(ThreadLocalRandom random) {
+        long latency = Math.max(0,
+                Math.round(latencyMean + random.nextGaussian() * latencyDeviation));
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayUnavailableException("Simulated payment call interrupted", e);
+        }
+    }
+
+    private void emitEvent(String eventType, String sessionId) {
+        String payload = EVENT_TEMPLATE.formatted(
+                "evt_sim_" + UUID.randomUUID(), eventType, sessionId);
+        try {
+            long timestamp = System.currentTimeMillis() / 1000;
+            String signature = Webhook.Util.computeHmacSha256(
+                    webhookSecret, timestamp + "." + payload);
+            paymentWebhookService.receiveEvent(payload, "t=" + timestamp + ",v1=" + signature);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            log.error("Failed to emit simulated {} event for session {}", eventType, sessionId, e);
+        }
+    }
+
+    private record SimulatedSession(
+            GatewaySessionState outcome,
+            long settledAt) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.stayfinder.service.payment;
+
+import com.example.stayfinder.config.StripeConfig;
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.exception.PaymentGatewayUnavailableException;
+import com.example.stayfinder.model.Money;
+import com.stripe.exception.IdempotencyException;
+import com.stripe.exception.InvalidRequestException;
+import com.stripe.exception.StripeException;
+import com.stripe.model.checkout.Session;
+import com.stripe.net.RequestOptions;
+import com.stripe.param.checkout.SessionCreateParams;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!" + SimulatedPaymentGateway.PROFILE)
+public class StripePaymentGateway implements PaymentGateway {
+    private static final String CLIENT_NAME = "stripe-checkout";
+    private static final String STATUS_COMPLETE = "complete";
+    private static final String STATUS_EXPIRED = "expired";
+    private static final String PAYMENT_STATUS_PAID = "paid";
+
+    private final StripeConfig stripeConfig;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final int connectTimeout;
+    private final int readTimeout;
+
+    public StripePaymentGateway(
+            StripeConfig stripeConfig,
+            @Value("${stripe.client.max-concurrent-calls}") int maxConcurrentCalls,
+            @Value("${stripe.client.max-wait}") long maxWait,
+            @Value("${stripe.client.connect-timeout}") int connectTimeout,
+            @Value("${stripe.client.read-timeout}") int readTimeout,
+            @Value("${stripe.client.failure-rate-threshold}") float failureRateThreshold,
+            @Value("${stripe.client.open-state-duration}") long openStateDuration) {
+        this.stripeConfig = stripeConfig;
+        this.bulkhead = Bulkhead.of(CLIENT_NAME, BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWait))
+                .build());
+        this.circuitBreaker = CircuitBreaker.of(CLIENT_NAME, CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(openStateDuration))
+                .ignoreExceptions(InvalidRequestException.class, IdempotencyException.class)
+                .build());
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public GatewaySession createSession(Money amount, String idempotencyKey) {
+        SessionCreateParams params = stripeConfig.createSessionParams(amount);
+        RequestOptions options = requestOptions()
+                .setIdempotencyKey(idempotencyKey)
+                .build();
+        try {
+            Session session = call(() -> Session.create(params, options));
+            return new GatewaySession(session.getId(), session.getUrl(), session.getExpiresAt());
+        } catch (StripeException e) {
+            throw new DataProcessingException("Error occurred while creating payment session", e);
+        }
+    }
+
+    @Override
+    public GatewaySessionState getSessionState(String sessionId) {
+        RequestOptions options = requestOptions().build();
+        try {
+            Session session = call(() -> Session.retrieve(sessionId, options));
+            if (STATUS_COMPLETE.equals(session.getStatus())
+                    && PAYMENT_STATUS_PAID.equals(session.getPaymentStatus())) {
+                return GatewaySessionState.PAID;
+            }
+            return STATUS_EXPIRED.equals(session.getStatus())
+                    ? GatewaySessionState.EXPIRED
+                    : GatewaySessionState.OPEN;
+        } catch (StripeException e) {
+            throw new DataProcessingException(
+                    "Error occurred while retrieving payment session " + sessionId, e);
+        }
+    }
+
+    private RequestOptions.RequestOptionsBuilder requestOptions() {
+        return RequestOptions.builder()
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout);
+    }
+
+    private <T> T call(StripeCall<T> stripeCall) throws StripeException {
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException e) {
+            throw new PaymentGatewayUnavailableException(
+                    "Too many concurrent payment requests, try again later", e);
+        }
+        try {
+            circuitBreaker.acquirePermission();
+            long start = System.nanoTime();
+            try {
+                T result = stripeCall.execute();
+                circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (StripeException | RuntimeException e) {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                throw e;
+            }
+        } catch (CallNotPermittedException e) {
+            throw new PaymentGatewayUnavailableException(
+                    "Payment provider is temporarily unavailable", e);
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StripeCall<T> {
+        T execute() throws StripeException;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.stayfinder.service.payment;
+
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.model.PaymentWebhookEvent;
+import com.example.stayfinder.repository.payment.PaymentBatchRepository;
+import com.example.stayfinder.repository.payment.PaymentWebhookEventRepository;
+import com.example.stayfinder.service.notification.NotificationService;
+import com.stripe.exception.EventDataObjectDeserializationException;
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+import com.stripe.model.StripeObject;
+import com.stripe.model.checkout.Session;
+import com.stripe.net.Webhook;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StripeWebhookService implements PaymentWebhookService {
+    private static final String SESSION_COMPLETED = "checkout.session.completed";
+    private static final String SESSION_EXPIRED = "checkout.session.expired";
+
+    private final PaymentWebhookEventRepository webhookEventRepository;
+    private final PaymentBatchRepository paymentBatchRepository;
+    private final NotificationService notificationService;
+    private final PlatformTransactionManager transactionManager;
+    @Value("${stripe.webhook.secret}")
+    private String webhookSecret;
+    @Value("${stripe.webhook.workers}")
+    private int workers;
+    @Value("${stripe.webhook.batch-size}")
+    private int batchSize;
+    @Value("${stripe.webhook.poll-delay}")
+    private long pollDelay;
+    private ScheduledExecutorService workerPool;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        workerPool = Executors.newScheduledThreadPool(workers);
+        for (int i = 0; i < workers; i++) {
+            workerPool.scheduleWithFixedDelay(
+                    this::drainPendingEvents, pollDelay, pollDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+    @Override
+    @Transactional
+    public void receiveEvent(String payload, String signature) {
+        Event event = constructEvent(payload, signature);
+        if (!SESSION_COMPLETED.equals(event.getType())
+                && !SESSION_EXPIRED.equals(event.getType())) {
+            return;
+        }
+        webhookEventRepository.insertIfAbsent(event.getId(), event.getType(),
+                getSessionId(event), payload, LocalDateTime.now());
+    }
+
+    @Override
+    public int processPendingEvents() {
+        Integer processed = transactionTemplate.execute(status -> applyBatch());
+        return processed == null ? 0 : processed;
+    }
+
+    private void drainPendingEvents() {
+        try {
+            int processed;
+            do {
+                processed = processPendingEvents();
+            } while (processed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Failed to apply Stripe webhook events", e);
+        }
+    }
+
+    private int applyBatch() {
+        List<PaymentWebhookEvent> events = webhookEventRepository.lockUnprocessed(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        Map<String, Set<String>> sessionIdsByType = events.stream()
+                .collect(Collectors.groupingBy(PaymentWebhookEvent::getType,
+                        Collectors.mapping(PaymentWebhookEvent::getSessionId,
+                                Collectors.toSet())));
+
+        completeSessions(sessionIdsByType.getOrDefault(SESSION_COMPLETED, Set.of()));
+        expireSessions(sessionIdsByType.getOrDefault(SESSION_EXPIRED, Set.of()));
+        webhookEventRepository.markProcessed(
+                events.stream().map(PaymentWebhookEvent::getId).toList(), LocalDateTime.now());
+        return events.size();
+    }
+
+    private void completeSessions(Set<String> sessionIds) {
+        if (!sessionIds.isEmpty()) {
+            paymentBatchRepository.confirmSessions(sessionIds).forEach(update ->
+                    notificationService.sendSuccessPaymentMessage(update.toPayment()));
+        }
+    }
+
+    private void expireSessions(Set<String> sessionIds) {
+        if (!sessionIds.isEmpty()) {
+            paymentBatchRepository.expireSessions(sessionIds);
+        }
+    }
+
+    private Event constructEvent(String payload, String signature) {
+        try {
+            return Webhook.constructEvent(payload, signature, webhookSecret);
+        } catch (SignatureVerificationException e) {
+            throw new DataProcessingException("Invalid Stripe webhook signature", e);
+        } catch (RuntimeException e) {
+            throw new DataProcessingException("Invalid Stripe webhook payload", e);
+        }
+    }
+
+    private String getSessionId(Event event) {
+        try {
+            StripeObject object = event.getDataObjectDeserializer().deserializeUnsafe();
+            if (object instanceof Session session) {
+                return session.getId();
+            }
+            throw new DataProcessingException(
+                    "Webhook event " + event.getId() + " doesn't contain a checkout session");
+        } catch (EventDataObjectDeserializationException e) {
+            throw new DataProcessingException("Invalid Stripe webhook event data", e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.stayfinder.service.report;
+
+import com.example.stayfinder.dto.report.RevenueReportDto;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReportService {
+    List<RevenueReportDto> getRevenue(LocalDate from, LocalDate to, RevenueGrouping grouping);
+}
@@ -0,0 +1,31 @@
+package com.example.stayfinder.service.report;
+
+import com.example.stayfinder.dto.report.RevenueReportDto;
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.repository.report.RevenueRollupRepository;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReportServiceImpl implements ReportService {
+    private final RevenueRollupRepository revenueRollupRepository;
+
+    @Override
+    public List<RevenueReportDto> getRevenue(
+            LocalDate from, LocalDate to, RevenueGrouping grouping) {
+        if (from.isAfter(to)) {
+            throw new DataProcessingException(
+                    "Report start date " + from + " is after end date " + to);
+        }
+        return switch (grouping) {
+            case DAY -> revenueRollupRepository.sumByDay(from, to);
+            case MONTH -> revenueRollupRepository.sumByMonth(from, to);
+            case ACCOMMODATION -> revenueRollupRepository.sumByAccommodation(from, to);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.stayfinder.service.report;
+
+import com.example.stayfinder.exception.DataProcessingException;
+import java.util.Locale;
+
+public enum RevenueGrouping {
+    DAY,
+    MONTH,
+    ACCOMMODATION;
+
+    public static RevenueGrouping of(String grouping) {
+        try {
+            return valueOf(grouping.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DataProcessingException("Unsupported revenue grouping: " + grouping
+                    + ", use day, month or accommodation");
+        }
+    }
+}
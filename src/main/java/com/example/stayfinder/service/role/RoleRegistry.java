@@ -0,0 +1,46 @@
+package com.example.stayfinder.service.role;
+
+import com.example.stayfinder.model.Role;
+import com.example.stayfinder.repository.role.RoleRepository;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RoleRegistry {
+    private final RoleRepository roleRepository;
+    private volatile Map<Role.RoleName, Role> roles = Collections.emptyMap();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        Map<Role.RoleName, Role> loadedRoles = new EnumMap<>(Role.RoleName.class);
+        roleRepository.findAll().forEach(role -> loadedRoles.put(role.getName(), role));
+        roles = Collections.unmodifiableMap(loadedRoles);
+    }
+
+    public Set<Role> getRoles(Set<Role.RoleName> roleNames) {
+        Set<Role> foundRoles = lookup(roleNames);
+        if (foundRoles.size() < roleNames.size()) {
+            refresh();
+            foundRoles = lookup(roleNames);
+        }
+        return foundRoles;
+    }
+
+    private Set<Role> lookup(Set<Role.RoleName> roleNames) {
+        Map<Role.RoleName, Role> currentRoles = roles;
+        return roleNames.stream()
+                .map(currentRoles::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+}
@@ -1,11 +1,10 @@
 package com.example.stayfinder.service.telegram;
 
-import com.example.stayfinder.model.TelegramBotChat;
+import java.util.Collection;
+import java.util.Map;
 
 public interface TelegramBotChatService {
-    void saveChatId(Long chatId, Long userId);
+    void saveChatId(Long chatId, Long userId, String languageCode);
 
-    TelegramBotChat findByUserId(Long userId);
-
-    boolean existsById(Long userId);
+    Map<Long, Long> findChatIdsByUserIds(Collection<Long> userIds);
 }
@@ -1,40 +1,87 @@
 package com.example.stayfinder.service.telegram;
 
-import com.example.stayfinder.exception.EntityNotFoundException;
 import com.example.stayfinder.model.TelegramBotChat;
 import com.example.stayfinder.repository.telegrambotchat.TelegramBotChatRepository;
 import com.example.stayfinder.repository.user.UserRepository;
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-@RequiredArgsConstructor
 public class TelegramBotChatServiceImpl implements TelegramBotChatService {
     private final TelegramBotChatRepository botRepository;
     private final UserRepository userRepository;
+    private final Map<Long, CachedChat> chatIds;
+    private final long ttl;
+
+    public TelegramBotChatServiceImpl(TelegramBotChatRepository botRepository,
+                                      UserRepository userRepository,
+                                      @Value("${bot.chat-cache.ttl}") long ttl,
+                                      @Value("${bot.chat-cache.max-size}") int maxSize) {
+        this.botRepository = botRepository;
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+        this.chatIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedChat> eldest) {
+                return size() > maxSize
+                        || eldest.getValue().expiresAt() < System.currentTimeMillis();
+            }
+        };
+    }
 
     @Override
-    public void saveChatId(Long chatId, Long userId) {
-        if (userRepository.existsById(userId)) {
-            botRepository.save(createTelegramBotChat(chatId, userId));
+    @Transactional
+    public void saveChatId(Long chatId, Long userId, String languageCode) {
+        boolean userExists = languageCode == null
+                ? userRepository.existsById(userId)
+                : userRepository.updateAttributes(
+                        userId, Map.of("languageCode", languageCode)) > 0;
+        if (userExists) {
+            botRepository.upsertChatId(chatId, userId);
+            cacheChatId(userId, chatId);
         }
     }
 
     @Override
-    public TelegramBotChat findByUserId(Long userId) {
-        return botRepository.findByUserId(userId).orElseThrow(
-                () -> new EntityNotFoundException(
-                        "Can't find TaskSystemBotChat by user ID: " + userId));
+    public Map<Long, Long> findChatIdsByUserIds(Collection<Long> userIds) {
+        Map<Long, Long> result = new HashMap<>();
+        List<Long> missingUserIds = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (chatIds) {
+            for (Long userId : userIds) {
+                CachedChat cachedChat = chatIds.get(userId);
+                if (cachedChat != null && cachedChat.expiresAt() >= now) {
+                    result.put(userId, cachedChat.chatId());
+                } else {
+                    chatIds.remove(userId);
+                    missingUserIds.add(userId);
+                }
+            }
+        }
+        if (!missingUserIds.isEmpty()) {
+            for (TelegramBotChat botChat : botRepository.findAllByUserIdIn(missingUserIds)) {
+                result.put(botChat.getUserId(), botChat.getChatId());
+                cacheChatId(botChat.getUserId(), botChat.getChatId());
+            }
+        }
+        return result;
     }
 
-    @Override
-    public boolean existsById(Long userId) {
-        return botRepository.findByUserId(userId).isPresent();
+    private void cacheChatId(Long userId, Long chatId) {
+        synchronized (chatIds) {
+            chatIds.put(userId, new CachedChat(chatId, System.currentTimeMillis() + ttl));
+        }
     }
 
-    private TelegramBotChat createTelegramBotChat(Long chatId, Long userId) {
-        return new TelegramBotChat()
-                .setChatId(chatId)
-                .setUserId(userId);
+    private record CachedChat(
+            Long chatId,
+            long expiresAt) {
     }
 }
@@ -0,0 +1,13 @@
+package com.example.stayfinder.service.telegram;
+
+import com.example.stayfinder.dto.notification.BroadcastDto;
+import com.example.stayfinder.dto.notification.BroadcastRequestDto;
+import com.example.stayfinder.dto.notification.BroadcastStatusUpdateRequestDto;
+
+public interface TelegramBroadcastService {
+    BroadcastDto start(BroadcastRequestDto requestDto);
+
+    BroadcastDto getById(Long id);
+
+    BroadcastDto updateStatus(Long id, BroadcastStatusUpdateRequestDto requestDto);
+}
@@ -0,0 +1,179 @@
+package com.example.stayfinder.service.telegram;
+
+import com.example.stayfinder.dto.notification.BroadcastDto;
+import com.example.stayfinder.dto.notification.BroadcastRequestDto;
+import com.example.stayfinder.dto.notification.BroadcastStatusUpdateRequestDto;
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.exception.EntityNotFoundException;
+import com.example.stayfinder.exception.TelegramMessageRejectedException;
+import com.example.stayfinder.model.BroadcastStatus;
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.repository.notification.TelegramBroadcastRepository;
+import com.example.stayfinder.repository.notification.TelegramBroadcastRepository.Broadcast;
+import com.example.stayfinder.repository.telegrambotchat.TelegramBotChatRepository;
+import com.example.stayfinder.repository.telegrambotchat.TelegramBotChatRepository.ChatRecipient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class TelegramBroadcastServiceImpl implements TelegramBroadcastService {
+    private final TelegramBroadcastRepository telegramBroadcastRepository;
+    private final TelegramBotChatRepository telegramBotChatRepository;
+    private final TelegramMessageDispatcher telegramMessageDispatcher;
+    private final Limit chunkSize;
+    private final long leaseTime;
+    private final long retryDelay;
+    private final long sendTimeout;
+
+    public TelegramBroadcastServiceImpl(
+            TelegramBroadcastRepository telegramBroadcastRepository,
+            TelegramBotChatRepository telegramBotChatRepository,
+            TelegramMessageDispatcher telegramMessageDispatcher,
+            @Value("${bot.broadcast.chunk-size}") int chunkSize,
+            @Value("${bot.broadcast.lease-time}") long leaseTime,
+            @Value("${bot.broadcast.retry-delay}") long retryDelay,
+            @Value("${bot.broadcast.send-timeout}") long sendTimeout) {
+        this.telegramBroadcastRepository = telegramBroadcastRepository;
+        this.telegramBotChatRepository = telegramBotChatRepository;
+        this.telegramMessageDispatcher = telegramMessageDispatcher;
+        this.chunkSize = Limit.of(chunkSize);
+        this.leaseTime = leaseTime;
+        this.retryDelay = retryDelay;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public BroadcastDto start(BroadcastRequestDto requestDto) {
+        return toDto(telegramBroadcastRepository.save(
+                requestDto.message(), telegramBotChatRepository.count()));
+    }
+
+    @Override
+    public BroadcastDto getById(Long id) {
+        return toDto(findById(id));
+    }
+
+    @Override
+    public BroadcastDto updateStatus(Long id, BroadcastStatusUpdateRequestDto requestDto) {
+        Broadcast broadcast = findById(id);
+        List<BroadcastStatus> currentStatuses = switch (requestDto.status()) {
+            case RUNNING -> List.of(BroadcastStatus.PAUSED);
+            case PAUSED -> List.of(BroadcastStatus.RUNNING);
+            case CANCELED -> List.of(BroadcastStatus.RUNNING, BroadcastStatus.PAUSED);
+            default -> List.of();
+        };
+        Optional<Broadcast> updated = currentStatuses.isEmpty()
+                ? Optional.empty()
+                : telegramBroadcastRepository.updateStatus(
+                        id, currentStatuses, requestDto.status());
+        return toDto(updated.orElseThrow(() -> new DataProcessingException(
+                "Can't change status of broadcast " + id + " from "
+                        + broadcast.status() + " to " + requestDto.status())));
+    }
+
+    @Scheduled(fixedDelayString = "${bot.broadcast.poll-interval}")
+    public void dispatch() {
+        Optional<Broadcast> broadcast;
+        while ((broadcast = telegramBroadcastRepository.leaseRunning(leaseTime)).isPresent()) {
+            try {
+                sendChunk(broadcast.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Broadcast {} failed at chat id {}",
+                        broadcast.get().id(), broadcast.get().lastChatId(), e);
+                telegramBroadcastRepository.updateStatus(broadcast.get().id(),
+                        List.of(BroadcastStatus.RUNNING), BroadcastStatus.FAILED);
+            }
+        }
+    }
+
+    private void sendChunk(Broadcast broadcast) throws InterruptedException {
+        List<ChatRecipient> recipients = telegramBotChatRepository
+                .findAllByIdGreaterThanOrderById(broadcast.lastChatId(), chunkSize);
+        if (recipients.isEmpty()) {
+            telegramBroadcastRepository.updateStatus(broadcast.id(),
+                            List.of(BroadcastStatus.RUNNING), BroadcastStatus.COMPLETED)
+                    .ifPresent(completed -> log.info("Broadcast {} completed: {} sent, {} failed",
+                            completed.id(), completed.sent(), completed.failed()));
+            return;
+        }
+        long lastChatId = broadcast.lastChatId();
+        boolean rejected = false;
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+        for (ChatRecipient recipient : recipients) {
+            CompletableFuture<Void> delivery = telegramMessageDispatcher.submit(
+                    recipient.getChatId(), broadcast.message(), NotificationPriority.BROADCAST);
+            if (isRejected(delivery)) {
+                rejected = true;
+                break;
+            }
+            deliveries.add(delivery);
+            lastChatId = recipient.getId();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeout);
+        long sent = 0;
+        for (CompletableFuture<Void> delivery : deliveries) {
+            if (awaitDelivery(delivery, deadline)) {
+                sent++;
+            }
+        }
+        if (rejected) {
+            log.warn("Telegram message queue is full, broadcast {} resumes after chat id {} "
+                    + "in {} s", broadcast.id(), lastChatId, retryDelay);
+        }
+        if (!telegramBroadcastRepository.advance(broadcast.id(), broadcast.lastChatId(),
+                lastChatId, sent, deliveries.size() - sent, rejected ? retryDelay : 0)) {
+            log.warn("Broadcast {} was advanced past chat id {} by another worker",
+                    broadcast.id(), broadcast.lastChatId());
+        }
+    }
+
+    private boolean isRejected(CompletableFuture<Void> delivery) {
+        return delivery.isCompletedExceptionally()
+                && delivery.handle((ignored, e) -> e).getNow(null)
+                        instanceof TelegramMessageRejectedException;
+    }
+
+    private boolean awaitDelivery(CompletableFuture<Void> delivery, long deadline)
+            throws InterruptedException {
+        try {
+            delivery.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            delivery.cancel(false);
+            return false;
+        } catch (ExecutionException | CancellationException e) {
+            return false;
+        }
+    }
+
+    private Broadcast findById(Long id) {
+        return telegramBroadcastRepository.findById(id).orElseThrow(
+                () -> new EntityNotFoundException("Can't find broadcast by id: " + id));
+    }
+
+    private BroadcastDto toDto(Broadcast broadcast) {
+        return new BroadcastDto(
+                broadcast.id(),
+                broadcast.status(),
+                broadcast.total(),
+                broadcast.sent(),
+                broadcast.failed(),
+                broadcast.startedAt(),
+                broadcast.finishedAt());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.stayfinder.service.telegram;
+
+import com.example.stayfinder.model.NotificationChannel;
+import com.example.stayfinder.service.notification.NotificationChannelSender;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TelegramChannelSender implements NotificationChannelSender {
+    private final TelegramBotChatService telegramBotChatService;
+    private final TelegramMessageDispatcher telegramMessageDispatcher;
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.TELEGRAM;
+    }
+
+    @Override
+    public Map<Long, String> findRecipients(Collection<Long> userIds) {
+        return telegramBotChatService.findChatIdsByUserIds(userIds).entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey, entry -> String.valueOf(entry.getValue())));
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> sendAll(List<ChannelMessage> messages) {
+        return messages.stream()
+                .map(message -> telegramMessageDispatcher.submit(
+                        Long.valueOf(message.recipient()), message.text(), message.priority()))
+                .toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.stayfinder.service.telegram;
+
+import com.example.stayfinder.model.NotificationPriority;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+
+@Getter
+public class TelegramMessage implements Delayed {
+    private final Long chatId;
+    private final String text;
+    private final NotificationPriority priority;
+    private final long sequence;
+    private final long enqueuedAt;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private int attempts;
+    private long readyAt;
+
+    public TelegramMessage(Long chatId, String text, NotificationPriority priority,
+                           long sequence, long enqueuedAt) {
+        this.chatId = chatId;
+        this.text = text;
+        this.priority = priority;
+        this.sequence = sequence;
+        this.enqueuedAt = enqueuedAt;
+        this.readyAt = enqueuedAt;
+    }
+
+    public void postpone(long delay) {
+        readyAt = System.nanoTime() + delay;
+    }
+
+    public int nextAttempt() {
+        return ++attempts;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(readyAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.stayfinder.service.telegram;
+
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.exception.TelegramMessageRejectedException;
+import com.example.stayfinder.model.NotificationPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+@Slf4j
+@Component
+public class TelegramMessageDispatcher {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long DEFAULT_RETRY_AFTER_SECONDS = 1;
+    private static final int MAX_CHAT_BUCKETS = 10_000;
+    private final TelegramBot telegramBot;
+    private final PriorityBlockingQueue<TelegramMessage> readyMessages =
+            new PriorityBlockingQueue<>(64, Comparator
+                    .comparing(TelegramMessage::getPriority)
+                    .thenComparingLong(TelegramMessage::getSequence));
+    private final DelayQueue<TelegramMessage> delayedMessages = new DelayQueue<>();
+    private final Map<Long, TokenBucket> chatBuckets = new HashMap<>();
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final TokenBucket globalBucket;
+    private final Timer deliveryTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Counter canceledCounter;
+    private final Counter throttledCounter;
+    private final Counter retriedCounter;
+    private final int queueCapacity;
+    private final double chatRate;
+    private final int maxAttempts;
+    private final long retryDelay;
+    private final long maxRetryDelay;
+    private final int sendThreads;
+    private final Semaphore sendPermits;
+    private ExecutorService worker;
+    private ExecutorService sendPool;
+    private volatile long pausedUntil;
+
+    public TelegramMessageDispatcher(
+            TelegramBot telegramBot,
+            MeterRegistry meterRegistry,
+            @Value("${bot.dispatcher.queue-capacity}") int queueCapacity,
+            @Value("${bot.dispatcher.global-rate}") double globalRate,
+            @Value("${bot.dispatcher.chat-rate}") double chatRate,
+            @Value("${bot.dispatcher.max-attempts}") int maxAttempts,
+            @Value("${bot.dispatcher.retry-delay}") long retryDelay,
+            @Value("${bot.dispatcher.max-retry-delay}") long maxRetryDelay,
+            @Value("${bot.dispatcher.send-threads}") int sendThreads) {
+        this.telegramBot = telegramBot;
+        this.globalBucket = new TokenBucket(globalRate, globalRate, System.nanoTime());
+        this.deliveryTimer = meterRegistry.timer("telegram.dispatcher.delivery");
+        this.sentCounter = meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "sent");
+        this.failedCounter = meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "failed");
+        this.rejectedCounter = meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "rejected");
+        this.canceledCounter = meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "canceled");
+        this.throttledCounter = meterRegistry.counter("telegram.dispatcher.throttled");
+        this.retriedCounter = meterRegistry.counter("telegram.dispatcher.retried");
+        meterRegistry.gauge("telegram.dispatcher.queue", queuedMessages);
+        this.queueCapacity = queueCapacity;
+        this.chatRate = chatRate;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = TimeUnit.MILLISECONDS.toNanos(retryDelay);
+        this.maxRetryDelay = TimeUnit.MILLISECONDS.toNanos(maxRetryDelay);
+        this.sendThreads = sendThreads;
+        this.sendPermits = new Semaphore(sendThreads);
+    }
+
+    @PostConstruct
+    public void init() {
+        sendPool = Executors.newFixedThreadPool(sendThreads);
+        worker = Executors.newSingleThreadExecutor();
+        worker.execute(this::dispatchMessages);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+        sendPool.shutdownNow();
+    }
+
+    public CompletableFuture<Void> submit(Long chatId, String text, NotificationPriority priority) {
+        if (queuedMessages.incrementAndGet() > queueCapacity) {
+            queuedMessages.decrementAndGet();
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(
+                    new TelegramMessageRejectedException("Telegram message queue is full"));
+        }
+        TelegramMessage message = new TelegramMessage(
+                chatId, text, priority, sequence.incrementAndGet(), System.nanoTime());
+        readyMessages.put(message);
+        return message.getResult();
+    }
+
+    private void dispatchMessages() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                dispatchNext();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatchNext() throws InterruptedException {
+        delayedMessages.drainTo(readyMessages);
+        TelegramMessage message = readyMessages.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (message == null) {
+            return;
+        }
+        if (message.getResult().isDone()) {
+            queuedMessages.decrementAndGet();
+            canceledCounter.increment();
+            return;
+        }
+        long chatDelay = acquireChatToken(message.getChatId());
+        if (chatDelay > 0) {
+            throttledCounter.increment();
+            message.postpone(chatDelay);
+            delayedMessages.put(message);
+            return;
+        }
+        acquireGlobalToken();
+        sendPermits.acquire();
+        sendPool.execute(() -> {
+            try {
+                send(message);
+            } finally {
+                sendPermits.release();
+            }
+        });
+    }
+
+    private long acquireChatToken(Long chatId) {
+        long now = System.nanoTime();
+        if (chatBuckets.size() >= MAX_CHAT_BUCKETS) {
+            chatBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        return chatBuckets.computeIfAbsent(chatId, id -> new TokenBucket(1, chatRate, now))
+                .tryAcquire(now);
+    }
+
+    private void acquireGlobalToken() throws InterruptedException {
+        long pause = pausedUntil - System.nanoTime();
+        if (pause > 0) {
+            TimeUnit.NANOSECONDS.sleep(pause);
+        }
+        long wait;
+        while ((wait = globalBucket.tryAcquire(System.nanoTime())) > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    private void send(TelegramMessage message) {
+        try {
+            telegramBot.execute(createSendMessage(message));
+            complete(message);
+        } catch (TelegramApiRequestException e) {
+            if (e.getErrorCode() != null && e.getErrorCode() == TOO_MANY_REQUESTS
+                    && message.nextAttempt() < maxAttempts) {
+                long retryAfter = TimeUnit.SECONDS.toNanos(getRetryAfter(e));
+                log.warn("Telegram rate limit hit, pausing sends for {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(retryAfter));
+                throttledCounter.increment();
+                pausedUntil = System.nanoTime() + retryAfter;
+                message.postpone(retryAfter);
+                delayedMessages.put(message);
+            } else if (isServerError(e)) {
+                retryOrFail(message, e);
+            } else {
+                fail(message, e);
+            }
+        } catch (TelegramApiException e) {
+            retryOrFail(message, e);
+        } catch (RuntimeException e) {
+            fail(message, e);
+        }
+    }
+
+    private boolean isServerError(TelegramApiRequestException e) {
+        return e.getErrorCode() == null || e.getErrorCode() >= 500;
+    }
+
+    private void retryOrFail(TelegramMessage message, TelegramApiException e) {
+        int attempt = message.nextAttempt();
+        if (attempt >= maxAttempts) {
+            fail(message, e);
+            return;
+        }
+        long backoff = Math.min(maxRetryDelay, retryDelay << Math.min(attempt - 1, 30));
+        long delay = ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1);
+        log.warn("Can't send a message to chat id {}, retrying in {} ms",
+                message.getChatId(), TimeUnit.NANOSECONDS.toMillis(delay), e);
+        retriedCounter.increment();
+        message.postpone(delay);
+        delayedMessages.put(message);
+    }
+
+    private long getRetryAfter(TelegramApiRequestException e) {
+        return e.getParameters() != null && e.getParameters().getRetryAfter() != null
+                ? e.getParameters().getRetryAfter()
+                : DEFAULT_RETRY_AFTER_SECONDS;
+    }
+
+    private SendMessage createSendMessage(TelegramMessage message) {
+        SendMessage sendMessage = new SendMessage();
+        sendMessage.setChatId(message.getChatId().toString());
+        sendMessage.setText(message.getText());
+        return sendMessage;
+    }
+
+    private void complete(TelegramMessage message) {
+        queuedMessages.decrementAndGet();
+        sentCounter.increment();
+        deliveryTimer.record(System.nanoTime() - message.getEnqueuedAt(), TimeUnit.NANOSECONDS);
+        message.getResult().complete(null);
+    }
+
+    private void fail(TelegramMessage message, Exception e) {
+        queuedMessages.decrementAndGet();
+        failedCounter.increment();
+        message.getResult().completeExceptionally(new DataProcessingException(
+                "Could not send a message to chat id: " + message.getChatId(), e));
+    }
+}
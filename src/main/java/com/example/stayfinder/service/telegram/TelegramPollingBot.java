@@ -0,0 +1,30 @@
+package com.example.stayfinder.service.telegram;
+
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+public class TelegramPollingBot extends TelegramLongPollingBot {
+    private final TelegramBot telegramBot;
+    private final TelegramUpdatePipeline telegramUpdatePipeline;
+
+    public TelegramPollingBot(TelegramBot telegramBot,
+                              TelegramUpdatePipeline telegramUpdatePipeline) {
+        super(telegramBot.getOptions(), telegramBot.getBotToken());
+        this.telegramBot = telegramBot;
+        this.telegramUpdatePipeline = telegramUpdatePipeline;
+    }
+
+    @Override
+    public String getBotUsername() {
+        return telegramBot.getBotUsername();
+    }
+
+    @Override
+    public void onUpdateReceived(Update update) {
+        try {
+            telegramUpdatePipeline.put(update);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
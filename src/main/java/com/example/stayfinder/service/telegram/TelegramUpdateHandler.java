@@ -0,0 +1,76 @@
+package com.example.stayfinder.service.telegram;
+
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.repository.user.UserRepository;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+@Component
+public class TelegramUpdateHandler {
+    private static final String START_COMMAND = "/start";
+    private final UserRepository userRepository;
+    private final TelegramBotChatService telegramBotChatService;
+    private final TelegramMessageDispatcher telegramMessageDispatcher;
+    private final UnknownEmailCache unknownEmailCache;
+    private final Pattern emailPattern;
+
+    public TelegramUpdateHandler(UserRepository userRepository,
+                                 TelegramBotChatService telegramBotChatService,
+                                 TelegramMessageDispatcher telegramMessageDispatcher,
+                                 UnknownEmailCache unknownEmailCache,
+                                 @Value("${bot.email.regex}") String emailRegex) {
+        this.userRepository = userRepository;
+        this.telegramBotChatService = telegramBotChatService;
+        this.telegramMessageDispatcher = telegramMessageDispatcher;
+        this.unknownEmailCache = unknownEmailCache;
+        this.emailPattern = Pattern.compile(emailRegex);
+    }
+
+    public void handle(Update update) {
+        if (!update.hasMessage() || !update.getMessage().hasText()) {
+            return;
+        }
+        Message message = update.getMessage();
+        String messageText = message.getText().trim();
+        if (messageText.equalsIgnoreCase(START_COMMAND)) {
+            reply(message, "Hi, " + message.getChat().getFirstName()
+                    + "! You have successfully started using the chat. "
+                    + "Please enter your registered email.");
+        } else if (emailPattern.matcher(messageText).matches()) {
+            Optional<Long> userId = findUserIdByEmail(messageText);
+            if (userId.isPresent()) {
+                telegramBotChatService.saveChatId(
+                        message.getChatId(), userId.get(), getLanguageCode(message));
+                reply(message, "Thank you! Now you will receive project notifications here.");
+            } else {
+                reply(message, "No user found with this email, please try again.");
+            }
+        } else {
+            reply(message, "Hello, please enter the email registered with the service.");
+        }
+    }
+
+    private Optional<Long> findUserIdByEmail(String email) {
+        if (unknownEmailCache.isUnknown(email)) {
+            return Optional.empty();
+        }
+        Optional<Long> userId = userRepository.findIdByEmail(email);
+        if (userId.isEmpty()) {
+            unknownEmailCache.put(email);
+        }
+        return userId;
+    }
+
+    private String getLanguageCode(Message message) {
+        return message.getFrom() == null ? null : message.getFrom().getLanguageCode();
+    }
+
+    private void reply(Message message, String text) {
+        telegramMessageDispatcher.submit(
+                message.getChatId(), text, NotificationPriority.TRANSACTIONAL);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.stayfinder.service.telegram;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+@Slf4j
+@Component
+public class TelegramUpdatePipeline {
+    private static final int RECENT_UPDATES = 10_000;
+    private final TelegramUpdateHandler telegramUpdateHandler;
+    private final List<BlockingQueue<Update>> partitions = new ArrayList<>();
+    private final Set<Integer> recentUpdateIds = Collections.newSetFromMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Boolean> eldest) {
+                    return size() > RECENT_UPDATES;
+                }
+            });
+    private final Counter handledCounter;
+    private final Counter duplicateCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private ExecutorService workers;
+
+    public TelegramUpdatePipeline(TelegramUpdateHandler telegramUpdateHandler,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${bot.updates.partitions}") int partitionCount,
+                                  @Value("${bot.updates.queue-capacity}") int queueCapacity) {
+        this.telegramUpdateHandler = telegramUpdateHandler;
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+        this.handledCounter = meterRegistry.counter("telegram.updates", "result", "handled");
+        this.duplicateCounter = meterRegistry.counter("telegram.updates", "result", "duplicate");
+        this.rejectedCounter = meterRegistry.counter("telegram.updates", "result", "rejected");
+        this.failedCounter = meterRegistry.counter("telegram.updates", "result", "failed");
+    }
+
+    @PostConstruct
+    public void init() {
+        workers = Executors.newFixedThreadPool(partitions.size());
+        partitions.forEach(partition -> workers.execute(() -> drain(partition)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    public boolean offer(Update update) {
+        if (!markSeen(update)) {
+            return true;
+        }
+        if (partitionOf(update).offer(update)) {
+            return true;
+        }
+        forget(update);
+        rejectedCounter.increment();
+        return false;
+    }
+
+    public void put(Update update) throws InterruptedException {
+        if (markSeen(update)) {
+            partitionOf(update).put(update);
+        }
+    }
+
+    private boolean markSeen(Update update) {
+        boolean added;
+        synchronized (recentUpdateIds) {
+            added = recentUpdateIds.add(update.getUpdateId());
+        }
+        if (!added) {
+            duplicateCounter.increment();
+        }
+        return added;
+    }
+
+    private void forget(Update update) {
+        synchronized (recentUpdateIds) {
+            recentUpdateIds.remove(update.getUpdateId());
+        }
+    }
+
+    private BlockingQueue<Update> partitionOf(Update update) {
+        return partitions.get(Math.floorMod(Long.hashCode(getChatId(update)), partitions.size()));
+    }
+
+    private long getChatId(Update update) {
+        if (update.hasMessage()) {
+            return update.getMessage().getChatId();
+        }
+        if (update.hasEditedMessage()) {
+            return update.getEditedMessage().getChatId();
+        }
+        if (update.hasCallbackQuery()) {
+            return update.getCallbackQuery().getFrom().getId();
+        }
+        return 0;
+    }
+
+    private void drain(BlockingQueue<Update> partition) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                handle(partition.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(Update update) {
+        try {
+            telegramUpdateHandler.handle(update);
+            handledCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("Can't handle Telegram update {}", update.getUpdateId(), e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.stayfinder.service.telegram;
+
+import com.example.stayfinder.exception.TelegramUpdateRejectedException;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.methods.updates.SetWebhook;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bot.mode", havingValue = "webhook")
+public class TelegramUpdateReceiver {
+    private final TelegramBot telegramBot;
+    private final TelegramUpdatePipeline telegramUpdatePipeline;
+    private final String webhookUrl;
+    private final byte[] secretToken;
+
+    public TelegramUpdateReceiver(TelegramBot telegramBot,
+                                  TelegramUpdatePipeline telegramUpdatePipeline,
+                                  @Value("${bot.webhook.url}") String webhookUrl,
+                                  @Value("${bot.webhook.secret}") String secretToken) {
+        if (secretToken.isBlank()) {
+            throw new IllegalStateException("bot.webhook.secret is required in webhook mode");
+        }
+        this.telegramBot = telegramBot;
+        this.telegramUpdatePipeline = telegramUpdatePipeline;
+        this.webhookUrl = webhookUrl;
+        this.secretToken = secretToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!webhookUrl.isBlank()) {
+            registerWebhook();
+        }
+    }
+
+    public void receive(String secretToken, Update update) {
+        if (secretToken == null || !MessageDigest.isEqual(
+                this.secretToken, secretToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new AccessDeniedException("Invalid Telegram webhook secret token");
+        }
+        if (!telegramUpdatePipeline.offer(update)) {
+            throw new TelegramUpdateRejectedException("Telegram update queue is full");
+        }
+    }
+
+    private void registerWebhook() {
+        try {
+            telegramBot.execute(SetWebhook.builder()
+                    .url(webhookUrl)
+                    .secretToken(new String(secretToken, StandardCharsets.UTF_8))
+                    .build());
+        } catch (TelegramApiException e) {
+            log.warn("Can't register Telegram webhook {}", webhookUrl, e);
+        }
+    }
+}
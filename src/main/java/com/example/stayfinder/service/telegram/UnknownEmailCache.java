@@ -0,0 +1,52 @@
+package com.example.stayfinder.service.telegram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UnknownEmailCache {
+    private final Map<String, Long> emails;
+    private final long ttl;
+
+    public UnknownEmailCache(@Value("${bot.email-cache.ttl}") long ttl,
+                             @Value("${bot.email-cache.max-size}") int maxSize) {
+        this.ttl = ttl;
+        this.emails = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize || eldest.getValue() < System.currentTimeMillis();
+            }
+        };
+    }
+
+    public boolean isUnknown(String email) {
+        synchronized (emails) {
+            Long expiresAt = emails.get(email);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt < System.currentTimeMillis()) {
+                emails.remove(email);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    public void put(String email) {
+        synchronized (emails) {
+            emails.put(email, System.currentTimeMillis() + ttl);
+        }
+    }
+
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        synchronized (emails) {
+            emails.remove(email);
+        }
+    }
+}
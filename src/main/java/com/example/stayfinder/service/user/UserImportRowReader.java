@@ -0,0 +1,123 @@
+package com.example.stayfinder.service.user;
+
+import com.example.stayfinder.dto.user.UserImportRequestDto;
+import com.example.stayfinder.exception.DataProcessingException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+class UserImportRowReader {
+    private static final List<String> CSV_COLUMNS =
+            List.of("username", "password", "email", "firstName", "lastName");
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final boolean ndjson;
+    private Map<String, Integer> csvColumnIndexes;
+    private long lineNumber;
+
+    UserImportRowReader(BufferedReader reader, ObjectMapper objectMapper, boolean ndjson) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.ndjson = ndjson;
+    }
+
+    List<ImportRow> readChunk(int chunkSize) throws IOException {
+        List<ImportRow> rows = new ArrayList<>(chunkSize);
+        while (rows.size() < chunkSize) {
+            String line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (ndjson) {
+                rows.add(parseJsonLine(line));
+            } else if (csvColumnIndexes == null) {
+                csvColumnIndexes = parseCsvHeader(line);
+            } else {
+                rows.add(parseCsvLine(line));
+            }
+        }
+        return rows;
+    }
+
+    private ImportRow parseJsonLine(String line) {
+        try {
+            UserImportRequestDto request = objectMapper.readValue(line, UserImportRequestDto.class);
+            return new ImportRow(lineNumber, new UserImportRequestDto(
+                    Objects.requireNonNullElse(request.username(), ""),
+                    Objects.requireNonNullElse(request.password(), ""),
+                    Objects.requireNonNullElse(request.email(), ""),
+                    Objects.requireNonNullElse(request.firstName(), ""),
+                    Objects.requireNonNullElse(request.lastName(), "")), null);
+        } catch (JsonProcessingException e) {
+            return new ImportRow(lineNumber, null, "Malformed JSON line");
+        }
+    }
+
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = splitCsvLine(line);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            indexes.put(columns.get(i).trim(), i);
+        }
+        if (!indexes.keySet().containsAll(CSV_COLUMNS)) {
+            throw new DataProcessingException(
+                    "CSV header must contain columns: " + String.join(", ", CSV_COLUMNS));
+        }
+        return indexes;
+    }
+
+    private ImportRow parseCsvLine(String line) {
+        List<String> values = splitCsvLine(line);
+        if (values.size() != csvColumnIndexes.size()) {
+            return new ImportRow(lineNumber, null, "Expected " + csvColumnIndexes.size()
+                    + " columns but found " + values.size());
+        }
+        return new ImportRow(lineNumber, new UserImportRequestDto(
+                values.get(csvColumnIndexes.get("username")),
+                values.get(csvColumnIndexes.get("password")),
+                values.get(csvColumnIndexes.get("email")),
+                values.get(csvColumnIndexes.get("firstName")),
+                values.get(csvColumnIndexes.get("lastName"))), null);
+    }
+
+    private List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            char character = line.charAt(i);
+            if (quoted && character == '"' && i + 1 < line.length()
+                    && line.charAt(i + 1) == '"') {
+                value.append('"');
+                i++;
+            } else if (character == '"') {
+                quoted = !quoted;
+            } else if (character == ',' && !quoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(character);
+            }
+            i++;
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    record ImportRow(
+            long line,
+            UserImportRequestDto request,
+            String error) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.stayfinder.service.user;
+
+import com.example.stayfinder.dto.user.UserImportReportDto;
+import java.io.InputStream;
+import org.springframework.http.MediaType;
+
+public interface UserImportService {
+    UserImportReportDto importUsers(InputStream inputStream, MediaType contentType);
+}
@@ -0,0 +1,201 @@
+package com.example.stayfinder.service.user;
+
+import com.example.stayfinder.dto.user.UserImportReportDto;
+import com.example.stayfinder.dto.user.UserImportRequestDto;
+import com.example.stayfinder.dto.user.UserImportRowResultDto;
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.exception.EntityNotFoundException;
+import com.example.stayfinder.model.Role;
+import com.example.stayfinder.model.User;
+import com.example.stayfinder.repository.user.UserBatchRepository;
+import com.example.stayfinder.repository.user.UserRepository;
+import com.example.stayfinder.service.role.RoleRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class UserImportServiceImpl implements UserImportService {
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final RoleRegistry roleRegistry;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    @Value("${user.import.chunk-size}")
+    private int chunkSize;
+    @Value("${user.import.hashing-threads}")
+    private int hashingThreads;
+    private ExecutorService hashingExecutor;
+
+    @PostConstruct
+    public void init() {
+        hashingExecutor = Executors.newFixedThreadPool(hashingThreads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Override
+    public UserImportReportDto importUsers(InputStream inputStream, MediaType contentType) {
+        Long roleId = getUserRoleId();
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+        List<UserImportRowResultDto> results = new ArrayList<>();
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            UserImportRowReader rowReader = new UserImportRowReader(reader, objectMapper, ndjson);
+            List<UserImportRowReader.ImportRow> chunk = rowReader.readChunk(chunkSize);
+            while (!chunk.isEmpty()) {
+                results.addAll(importChunk(chunk, roleId, seenUsernames, seenEmails));
+                chunk = rowReader.readChunk(chunkSize);
+            }
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't read users import data", e);
+        }
+
+        int imported = (int) results.stream()
+                .filter(result -> ImportStatus.IMPORTED.name().equals(result.status()))
+                .count();
+        return new UserImportReportDto(
+                results.size(), imported, results.size() - imported, results);
+    }
+
+    private List<UserImportRowResultDto> importChunk(List<UserImportRowReader.ImportRow> chunk,
+                                                     Long roleId,
+                                                     Set<String> seenUsernames,
+                                                     Set<String> seenEmails) {
+        List<UserImportRowResultDto> results = new ArrayList<>(chunk.size());
+        List<UserImportRowReader.ImportRow> candidates = new ArrayList<>();
+        for (UserImportRowReader.ImportRow row : chunk) {
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                results.add(toResult(row, ImportStatus.INVALID, error));
+            } else if (seenUsernames.contains(row.request().username())
+                    || seenEmails.contains(row.request().email())) {
+                results.add(toResult(row, ImportStatus.DUPLICATE,
+                        "Username or email is repeated in the import"));
+            } else {
+                seenUsernames.add(row.request().username());
+                seenEmails.add(row.request().email());
+                candidates.add(row);
+            }
+        }
+
+        List<UserImportRowReader.ImportRow> newRows = filterExisting(candidates, results);
+        if (!newRows.isEmpty()) {
+            List<User> users = hashPasswords(newRows);
+            int[] insertedRows = userBatchRepository.saveAllWithRole(users, roleId);
+            for (int i = 0; i < newRows.size(); i++) {
+                results.add(insertedRows[i] != 0
+                        ? toResult(newRows.get(i), ImportStatus.IMPORTED, null)
+                        : toResult(newRows.get(i), ImportStatus.DUPLICATE,
+                        "Username or email already exists"));
+            }
+        }
+
+        results.sort(Comparator.comparingLong(UserImportRowResultDto::line));
+        return results;
+    }
+
+    private List<UserImportRowReader.ImportRow> filterExisting(
+            List<UserImportRowReader.ImportRow> candidates,
+            List<UserImportRowResultDto> results) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        List<UserRepository.UserIdentity> existing = userRepository.findAllIdentities(
+                candidates.stream().map(row -> row.request().username()).toList(),
+                candidates.stream().map(row -> row.request().email()).toList());
+        Set<String> existingUsernames = existing.stream()
+                .map(UserRepository.UserIdentity::getUsername)
+                .collect(Collectors.toSet());
+        Set<String> existingEmails = existing.stream()
+                .map(UserRepository.UserIdentity::getEmail)
+                .collect(Collectors.toSet());
+
+        List<UserImportRowReader.ImportRow> newRows = new ArrayList<>(candidates.size());
+        for (UserImportRowReader.ImportRow row : candidates) {
+            if (existingUsernames.contains(row.request().username())
+                    || existingEmails.contains(row.request().email())) {
+                results.add(toResult(row, ImportStatus.DUPLICATE,
+                        "Username or email already exists"));
+            } else {
+                newRows.add(row);
+            }
+        }
+        return newRows;
+    }
+
+    private List<User> hashPasswords(List<UserImportRowReader.ImportRow> rows) {
+        List<CompletableFuture<User>> futures = rows.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                        () -> toUser(row.request()), hashingExecutor))
+                .toList();
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private User toUser(UserImportRequestDto request) {
+        return new User()
+                .setUsername(request.username())
+                .setPassword(passwordEncoder.encode(request.password()))
+                .setEmail(request.email())
+                .setFirstName(request.firstName())
+                .setLastName(request.lastName());
+    }
+
+    private String validate(UserImportRequestDto request) {
+        String errors = validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return errors.isEmpty() ? null : errors;
+    }
+
+    private UserImportRowResultDto toResult(UserImportRowReader.ImportRow row,
+                                            ImportStatus status,
+                                            String message) {
+        String username = row.request() != null ? row.request().username() : null;
+        return new UserImportRowResultDto(row.line(), username, status.name(), message);
+    }
+
+    private Long getUserRoleId() {
+        return roleRegistry.getRoles(Set.of(Role.RoleName.USER)).stream()
+                .findFirst()
+                .map(Role::getId)
+                .orElseThrow(() -> new EntityNotFoundException("Can't find role: USER"));
+    }
+
+    private enum ImportStatus {
+        IMPORTED,
+        DUPLICATE,
+        INVALID
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.stayfinder.service.user;
 
+import com.example.stayfinder.dto.user.UserProfilePatchRequestDto;
 import com.example.stayfinder.dto.user.UserRegisterRequestDto;
 import com.example.stayfinder.dto.user.UserResponseDto;
 import com.example.stayfinder.exception.RegistrationException;
@@ -15,4 +16,6 @@ public interface UserService {
     UserResponseDto findProfile(User user);
 
     UserResponseDto updateProfile(User user, UserRegisterRequestDto updateDto);
+
+    UserResponseDto patchProfile(User user, UserProfilePatchRequestDto patchDto);
 }
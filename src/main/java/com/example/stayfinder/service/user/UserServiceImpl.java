@@ -1,5 +1,6 @@
 package com.example.stayfinder.service.user;
 
+import com.example.stayfinder.dto.user.UserProfilePatchRequestDto;
 import com.example.stayfinder.dto.user.UserRegisterRequestDto;
 import com.example.stayfinder.dto.user.UserResponseDto;
 import com.example.stayfinder.exception.EntityNotFoundException;
@@ -7,10 +8,14 @@ import com.example.stayfinder.exception.RegistrationException;
 import com.example.stayfinder.mapper.UserMapper;
 import com.example.stayfinder.model.Role;
 import com.example.stayfinder.model.User;
-import com.example.stayfinder.repository.role.RoleRepository;
 import com.example.stayfinder.repository.user.UserRepository;
-import java.util.HashSet;
+import com.example.stayfinder.security.BasicCredentialCache;
+import com.example.stayfinder.service.role.RoleRegistry;
+import com.example.stayfinder.service.telegram.UnknownEmailCache;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -24,8 +29,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final PasswordEncoder passwordEncoder;
+    private final BasicCredentialCache basicCredentialCache;
+    private final UnknownEmailCache unknownEmailCache;
 
     @Override
     public UserResponseDto register(UserRegisterRequestDto registrationDto)
@@ -38,10 +45,10 @@ public class UserServiceImpl implements UserService {
 
         User userFromDto = userMapper.toEntity(registrationDto);
         userFromDto.setPassword(passwordEncoder.encode(registrationDto.password()));
-        userFromDto.setRoles(findByNameContaining(Set.of(
-                Role.RoleName.USER)));
+        userFromDto.setRoles(roleRegistry.getRoles(Set.of(Role.RoleName.USER)));
 
         User savedUser = userRepository.save(userFromDto);
+        unknownEmailCache.evict(registrationDto.email());
 
         return userMapper.toDto(savedUser);
     }
@@ -54,7 +61,7 @@ public class UserServiceImpl implements UserService {
                 .map(roleName -> Role.RoleName.valueOf(roleName.toUpperCase()))
                 .collect(Collectors.toSet());
 
-        Set<Role> roles = roleRepository.findAllByNameContaining(roleEnums);
+        Set<Role> roles = roleRegistry.getRoles(roleEnums);
         if (roles.isEmpty()) {
             throw new EntityNotFoundException("No matching roles found for the provided names.");
         }
@@ -74,17 +81,55 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserResponseDto updateProfile(User user, UserRegisterRequestDto updateDto) {
         getUser(user.getId());
+        basicCredentialCache.evict(user.getUsername());
 
         userMapper.updateEntityFromDto(user, updateDto);
 
         user.setPassword(passwordEncoder.encode(updateDto.password()));
         user.setRoles(user.getRoles());
 
+        unknownEmailCache.evict(updateDto.email());
+
         return userMapper.toDto(userRepository.save(user));
     }
 
-    private Set<Role> findByNameContaining(Set<Role.RoleName> rolesSet) {
-        return new HashSet<>(roleRepository.findAllByNameContaining(rolesSet));
+    @Override
+    public UserResponseDto patchProfile(User user, UserProfilePatchRequestDto patchDto) {
+        Map<String, Object> changes = new HashMap<>();
+        putIfChanged(changes, "username", user.getUsername(), patchDto.username());
+        putIfChanged(changes, "email", user.getEmail(), patchDto.email());
+        putIfChanged(changes, "firstName", user.getFirstName(), patchDto.firstName());
+        putIfChanged(changes, "lastName", user.getLastName(), patchDto.lastName());
+        if (patchDto.notificationChannel() != null
+                && patchDto.notificationChannel() != user.getNotificationChannel()) {
+            changes.put("notificationChannel", patchDto.notificationChannel());
+        }
+        if (patchDto.password() != null) {
+            changes.put("password", passwordEncoder.encode(patchDto.password()));
+        }
+
+        if (!changes.isEmpty()) {
+            if (userRepository.updateAttributes(user.getId(), changes) == 0) {
+                throw new EntityNotFoundException("User not found with ID: " + user.getId());
+            }
+            basicCredentialCache.evict(user.getUsername());
+            if (changes.containsKey("email")) {
+                unknownEmailCache.evict(patchDto.email());
+            }
+            userMapper.patchEntityFromDto(user, patchDto);
+            if (changes.containsKey("password")) {
+                user.setPassword((String) changes.get("password"));
+            }
+        }
+
+        return userMapper.toDto(user);
+    }
+
+    private void putIfChanged(Map<String, Object> changes, String attribute,
+                              String currentValue, String newValue) {
+        if (newValue != null && !Objects.equals(currentValue, newValue)) {
+            changes.put(attribute, newValue);
+        }
     }
 
     private User getUser(Long userId) {
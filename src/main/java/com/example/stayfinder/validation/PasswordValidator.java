@@ -12,6 +12,9 @@ public class PasswordValidator implements ConstraintValidator<
     @Override
     public boolean isValid(Object value,
                            ConstraintValidatorContext validatorContext) {
+        if (value == null) {
+            return true;
+        }
         Pattern pattern = Pattern.compile(PASSWORD_PATTERN);
         Matcher matcher = pattern.matcher((CharSequence) value);
         return matcher.matches();
@@ -0,0 +1,59 @@
+package com.example.stayfinder.benchmark;
+
+import com.example.stayfinder.model.Money;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    private static final BigDecimal CENTS_AMOUNT = BigDecimal.valueOf(100);
+
+    @Param({"1", "14"})
+    protected long days;
+    private BigDecimal decimalDailyRate;
+    private Money moneyDailyRate;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        decimalDailyRate = new BigDecimal("149.99");
+        moneyDailyRate = Money.of(decimalDailyRate, Currency.getInstance("USD"));
+    }
+
+    @Benchmark
+    public long bigDecimalUnitAmount() {
+        return decimalDailyRate.multiply(BigDecimal.valueOf(days))
+                .multiply(CENTS_AMOUNT)
+                .longValue();
+    }
+
+    @Benchmark
+    public long moneyUnitAmount() {
+        return moneyDailyRate.times(days).amount();
+    }
+}
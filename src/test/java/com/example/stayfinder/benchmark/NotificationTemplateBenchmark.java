@@ -0,0 +1,79 @@
+package com.example.stayfinder.benchmark;
+
+import com.example.stayfinder.service.notification.NotificationTemplate;
+import com.example.stayfinder.service.notification.NotificationTemplates;
+import com.example.stayfinder.service.notification.NotificationType;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationTemplateBenchmark {
+    private static final String BOOKING_CREATED_FORMAT =
+            "Type notification: #BOOKING_CREATED%n"
+                    + "Booking detail: %n"
+                    + "           Booking id: %s%n"
+                    + "           Check in date: %s%n"
+                    + "           Check out date: %s%n"
+                    + "           Accommodation Id: %s%n"
+                    + "Reservation owner: %n"
+                    + "           id:  %s%n"
+                    + "           name: %s";
+
+    private NotificationTemplate bookingCreatedTemplate;
+    private Long bookingId;
+    private LocalDateTime checkInDate;
+    private LocalDateTime checkOutDate;
+    private Long accommodationId;
+    private Long userId;
+    private String firstName;
+    private String lastName;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NotificationTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        bookingCreatedTemplate = new NotificationTemplates("en")
+                .get(NotificationType.BOOKING_CREATED, "en");
+        bookingId = 1024L;
+        checkInDate = LocalDateTime.of(2025, 3, 10, 14, 0);
+        checkOutDate = checkInDate.plusDays(3);
+        accommodationId = 42L;
+        userId = 7L;
+        firstName = "John";
+        lastName = "Doe";
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(BOOKING_CREATED_FORMAT, bookingId, checkInDate, checkOutDate,
+                accommodationId, userId, firstName + " " + lastName);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return bookingCreatedTemplate.render(bookingId, checkInDate, checkOutDate,
+                accommodationId, userId, firstName, lastName);
+    }
+}
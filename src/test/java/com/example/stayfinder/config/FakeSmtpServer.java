@@ -0,0 +1,121 @@
+package com.example.stayfinder.config;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FakeSmtpServer {
+    private static FakeSmtpServer fakeSmtpServer;
+
+    private final BlockingQueue<MailMessage> messages = new LinkedBlockingQueue<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ServerSocket serverSocket;
+
+    private FakeSmtpServer() {
+        try {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Thread acceptor = new Thread(this::accept, "fake-smtp-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public static synchronized FakeSmtpServer getInstance() {
+        if (fakeSmtpServer == null) {
+            fakeSmtpServer = new FakeSmtpServer();
+        }
+        return fakeSmtpServer;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    public MailMessage takeMessage() throws InterruptedException {
+        return messages.poll(5, TimeUnit.SECONDS);
+    }
+
+    public void reset() {
+        messages.clear();
+        connections.set(0);
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                connections.incrementAndGet();
+                handle(socket);
+            } catch (SocketException e) {
+                return;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter writer = new PrintWriter(socket.getOutputStream(), true,
+                StandardCharsets.UTF_8);
+        reply(writer, "220 localhost ESMTP");
+        List<String> recipients = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String command = line.toUpperCase(Locale.ROOT);
+            if (command.startsWith("RCPT TO:")) {
+                recipients.add(line.substring("RCPT TO:".length()).replaceAll("[<> ]", ""));
+                reply(writer, "250 OK");
+            } else if (command.equals("DATA")) {
+                reply(writer, "354 End data with <CR><LF>.<CR><LF>");
+                messages.add(new MailMessage(List.copyOf(recipients), readData(reader)));
+                recipients.clear();
+                reply(writer, "250 OK");
+            } else if (command.equals("QUIT")) {
+                reply(writer, "221 Bye");
+                return;
+            } else {
+                reply(writer, "250 OK");
+            }
+        }
+    }
+
+    private String readData(BufferedReader reader) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null && !line.equals(".")) {
+            data.append(line.startsWith("..") ? line.substring(1) : line).append('\n');
+        }
+        return data.toString();
+    }
+
+    private void reply(PrintWriter writer, String response) {
+        writer.print(response + "\r\n");
+        writer.flush();
+    }
+
+    public record MailMessage(
+            List<String> recipients,
+            String data) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.stayfinder.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+
+public class FakeTelegramServer {
+    private static final String MESSAGE_RESULT = """
+            {"message_id":1,"date":0,"chat":{"id":1,"type":"private"}}""";
+    private static final Map<String, String> RESULTS = Map.of(SendMessage.PATH, MESSAGE_RESULT);
+
+    private static FakeTelegramServer fakeTelegramServer;
+
+    private final BlockingQueue<ApiRequest> requests = new LinkedBlockingQueue<>();
+    private final Queue<ApiResponse> responses = new ConcurrentLinkedQueue<>();
+    private final HttpServer server;
+
+    private FakeTelegramServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public static synchronized FakeTelegramServer getInstance() {
+        if (fakeTelegramServer == null) {
+            fakeTelegramServer = new FakeTelegramServer();
+        }
+        return fakeTelegramServer;
+    }
+
+    public String getApiUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/bot";
+    }
+
+    public void reset() {
+        requests.clear();
+        responses.clear();
+    }
+
+    public void enqueueResponse(int status, String body, long delayMillis) {
+        responses.add(new ApiResponse(status, body, delayMillis));
+    }
+
+    public ApiRequest takeRequest(String method) throws InterruptedException {
+        ApiRequest request;
+        do {
+            request = requests.poll(5, TimeUnit.SECONDS);
+        } while (request != null && !request.method().equalsIgnoreCase(method));
+        return request;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = path.substring(path.lastIndexOf('/') + 1);
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        requests.add(new ApiRequest(method, body));
+
+        ApiResponse apiResponse = responses.poll();
+        if (apiResponse == null) {
+            apiResponse = new ApiResponse(200, "{\"ok\":true,\"result\":"
+                    + RESULTS.getOrDefault(method.toLowerCase(Locale.ROOT), "true") + "}", 0);
+        }
+        sleep(apiResponse.delayMillis());
+        byte[] response = apiResponse.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(apiResponse.status(), response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    private void sleep(long delayMillis) {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public record ApiRequest(
+            String method,
+            String body) {
+    }
+
+    private record ApiResponse(
+            int status,
+            String body,
+            long delayMillis) {
+    }
+}
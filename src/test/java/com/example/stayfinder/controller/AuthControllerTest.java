@@ -1,12 +1,14 @@
 package com.example.stayfinder.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.stayfinder.dto.user.RefreshTokenRequestDto;
 import com.example.stayfinder.dto.user.UserLoginRequestDto;
 import com.example.stayfinder.dto.user.UserLoginResponseDto;
 import com.example.stayfinder.dto.user.UserRegisterRequestDto;
@@ -169,6 +171,74 @@ class AuthControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @Order(5)
+    @DisplayName("""
+            Refresh access token with a valid refresh token
+            """)
+    void refresh_ValidRefreshToken_ReturnsRotatedTokens() throws Exception {
+        // Given
+        UserLoginResponseDto loginResponse = login(getLoginRequestDto());
+        String jsonRequest = objectMapper.writeValueAsString(
+                new RefreshTokenRequestDto(loginResponse.refreshToken()));
+
+        // When
+        MvcResult result = mockMvc.perform(
+                        post("/auth/refresh")
+                                .content(jsonRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        // Then
+        UserLoginResponseDto actual = objectMapper.readValue(
+                result.getResponse()
+                        .getContentAsByteArray(), UserLoginResponseDto.class);
+        assertNotNull(actual);
+        assertTrue(StringUtils.hasText(actual.token()));
+        assertTrue(StringUtils.hasText(actual.refreshToken()));
+        assertNotEquals(loginResponse.refreshToken(), actual.refreshToken());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("""
+            Refresh access token with an already rotated refresh token
+            """)
+    void refresh_RotatedRefreshToken_ReturnsUnauthorized() throws Exception {
+        // Given
+        UserLoginResponseDto loginResponse = login(getLoginRequestDto());
+        String jsonRequest = objectMapper.writeValueAsString(
+                new RefreshTokenRequestDto(loginResponse.refreshToken()));
+        mockMvc.perform(
+                        post("/auth/refresh")
+                                .content(jsonRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isAccepted());
+
+        // When
+        mockMvc.perform(
+                        post("/auth/refresh")
+                                .content(jsonRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isUnauthorized());
+    }
+
+    private UserLoginResponseDto login(UserLoginRequestDto requestDto) throws Exception {
+        MvcResult result = mockMvc.perform(
+                        post("/auth/login")
+                                .content(objectMapper.writeValueAsString(requestDto))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isAccepted())
+                .andReturn();
+        return objectMapper.readValue(
+                result.getResponse().getContentAsByteArray(), UserLoginResponseDto.class);
+    }
+
     private UserLoginRequestDto getLoginRequestDto() {
         return new UserLoginRequestDto(
                 "admin",
@@ -1,6 +1,7 @@
 package com.example.stayfinder.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -12,12 +13,18 @@ import com.example.stayfinder.dto.payment.CreatePaymentSessionDto;
 import com.example.stayfinder.dto.payment.PaymentDto;
 import com.example.stayfinder.dto.payment.PaymentLowInfoDto;
 import com.example.stayfinder.dto.payment.PaymentWithoutSessionDto;
+import com.example.stayfinder.model.Payment;
+import com.example.stayfinder.repository.payment.PaymentRepository;
+import com.example.stayfinder.repository.payment.PaymentWebhookEventRepository;
+import com.example.stayfinder.service.payment.PaymentWebhookService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stripe.net.Webhook;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import javax.sql.DataSource;
@@ -30,6 +37,7 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
@@ -47,6 +55,14 @@ class PaymentControllerTest {
     private static MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private PaymentWebhookService paymentWebhookService;
+    @Autowired
+    private PaymentWebhookEventRepository webhookEventRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Value("${stripe.webhook.secret}")
+    private String webhookSecret;
 
     @BeforeAll
     static void beforeAll(
@@ -223,6 +239,85 @@ class PaymentControllerTest {
                 + "has been canceled and can be made later.", sessionId), actual);
     }
 
+    @Test
+    @Order(5)
+    @DisplayName("""
+            Stripe webhook with a valid signature is stored once and applied by workers
+            """)
+    void receiveWebhookEvent_SignedCompletedEvent_ConfirmsPayment() throws Exception {
+        //Given
+        String payload = getCheckoutSessionEventPayload(
+                "evt_test_completed", "checkout.session.completed", "session-67890");
+        String signature = signPayload(payload);
+
+        //When
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                            post("/payments/webhook")
+                                    .header("Stripe-Signature", signature)
+                                    .content(payload)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                    )
+                    .andExpect(status().isOk());
+        }
+        paymentWebhookService.processPendingEvents();
+
+        //Then
+        assertEquals(1, webhookEventRepository.count());
+        assertEquals(Payment.PaymentStatus.PAID,
+                awaitPaymentStatus("session-67890", Payment.PaymentStatus.PAID));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("""
+            Stripe webhook with an invalid signature is rejected
+            """)
+    void receiveWebhookEvent_InvalidSignature_ReturnsBadRequest() throws Exception {
+        //Given
+        String payload = getCheckoutSessionEventPayload(
+                "evt_test_forged", "checkout.session.expired", "session-12345");
+        String signature = "t=" + Instant.now().getEpochSecond() + ",v1=forged";
+
+        //When & Then
+        mockMvc.perform(
+                        post("/payments/webhook")
+                                .header("Stripe-Signature", signature)
+                                .content(payload)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest());
+        assertFalse(webhookEventRepository.existsById("evt_test_forged"));
+    }
+
+    private String getCheckoutSessionEventPayload(String eventId, String type, String sessionId) {
+        return """
+                {"id": "%s", "object": "event", "type": "%s",
+                 "data": {"object": {"id": "%s", "object": "checkout.session"}}}
+                """.formatted(eventId, type, sessionId);
+    }
+
+    private String signPayload(String payload) throws Exception {
+        long timestamp = Instant.now().getEpochSecond();
+        String signature = Webhook.Util.computeHmacSha256(
+                webhookSecret, timestamp + "." + payload);
+        return "t=" + timestamp + ",v1=" + signature;
+    }
+
+    private Payment.PaymentStatus awaitPaymentStatus(
+            String sessionId, Payment.PaymentStatus expected) throws InterruptedException {
+        Payment.PaymentStatus actual = null;
+        for (int attempt = 0; attempt < 50 && actual != expected; attempt++) {
+            actual = paymentRepository.findBySessionId(sessionId)
+                    .map(Payment::getStatus)
+                    .orElseThrow();
+            if (actual != expected) {
+                Thread.sleep(100);
+            }
+        }
+        return actual;
+    }
+
     private List<PaymentLowInfoDto> getPaymentLowInfoDtoList() {
         return List.of(
                 new PaymentLowInfoDto(2L,
@@ -0,0 +1,85 @@
+package com.example.stayfinder.controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.stayfinder.config.FakeTelegramServer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TelegramWebhookControllerTest {
+    private static final String SECRET_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+    private static final FakeTelegramServer TELEGRAM_SERVER = FakeTelegramServer.getInstance();
+    private static MockMvc mockMvc;
+    @Value("${bot.webhook.secret}")
+    private String webhookSecret;
+
+    @DynamicPropertySource
+    static void telegramProperties(DynamicPropertyRegistry registry) {
+        registry.add("bot.mode", () -> "webhook");
+        registry.add("bot.api-url", TELEGRAM_SERVER::getApiUrl);
+    }
+
+    @BeforeAll
+    static void beforeAll(@Autowired WebApplicationContext applicationContext) {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(applicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @DisplayName("""
+            Telegram update with a valid secret token is handled and answered
+            """)
+    void receiveUpdate_ValidSecretToken_RepliesToChat() throws Exception {
+        //When
+        mockMvc.perform(
+                        post("/telegram/webhook")
+                                .header(SECRET_HEADER, webhookSecret)
+                                .content(getStartUpdate(1001L, 42L))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk());
+
+        //Then
+        FakeTelegramServer.ApiRequest request = TELEGRAM_SERVER.takeRequest("sendMessage");
+        assertNotNull(request);
+        assertTrue(request.body().contains("\"chat_id\":\"42\""));
+    }
+
+    @Test
+    @DisplayName("""
+            Telegram update with a wrong secret token is rejected
+            """)
+    void receiveUpdate_InvalidSecretToken_ReturnsForbidden() throws Exception {
+        mockMvc.perform(
+                        post("/telegram/webhook")
+                                .header(SECRET_HEADER, "wrong-secret")
+                                .content(getStartUpdate(1002L, 43L))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isForbidden());
+    }
+
+    private String getStartUpdate(Long updateId, Long chatId) {
+        return """
+                {"update_id":%d,"message":{"message_id":1,"date":0,
+                "chat":{"id":%d,"type":"private","first_name":"John"},"text":"/start"}}
+                """.formatted(updateId, chatId);
+    }
+}
@@ -4,9 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.stayfinder.dto.user.UserImportReportDto;
 import com.example.stayfinder.dto.user.UserRegisterRequestDto;
 import com.example.stayfinder.dto.user.UserResponseDto;
 import com.example.stayfinder.dto.user.UserRoleUpdateRequestDto;
@@ -161,6 +163,42 @@ class UserControllerTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    @Order(4)
+    @DisplayName("""
+            Import users from CSV when admin is authenticated
+            """)
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void importUsers_AdminAuthenticated_ReturnsImportReport() throws Exception {
+        // Given
+        String csv = """
+                username,password,email,firstName,lastName
+                new.user,password123,new.user@example.com,New,User
+                john.doe,password123,john.doe@example.com,John,Doe
+                short.pass,short,short.pass@example.com,Short,Pass
+                """;
+
+        // When
+        MvcResult result = mockMvc.perform(
+                        post("/users/import")
+                                .content(csv)
+                                .contentType("text/csv")
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        UserImportReportDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsByteArray(), UserImportReportDto.class);
+        assertNotNull(actual);
+        assertEquals(3, actual.total());
+        assertEquals(1, actual.imported());
+        assertEquals(2, actual.rejected());
+        assertEquals("IMPORTED", actual.rows().get(0).status());
+        assertEquals("DUPLICATE", actual.rows().get(1).status());
+        assertEquals("INVALID", actual.rows().get(2).status());
+    }
+
     private UserRoleUpdateRequestDto getAdminRolesUpdateDto() {
         return new UserRoleUpdateRequestDto(List.of("USER", "ADMIN"));
     }
@@ -0,0 +1,73 @@
+package com.example.stayfinder.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.Currency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @Test
+    @DisplayName("""
+            Convert a decimal amount to minor units of its currency
+            """)
+    void of_ExactAmount_StoresMinorUnits() {
+        // When
+        Money actual = Money.of(new BigDecimal("120.5"), USD);
+
+        // Then
+        assertEquals(12050, actual.amount());
+        assertEquals(new BigDecimal("120.50"), actual.toBigDecimal());
+        assertEquals(500, Money.of(BigDecimal.valueOf(500), JPY).amount());
+    }
+
+    @Test
+    @DisplayName("""
+            Reject amounts that need rounding in the currency
+            """)
+    void of_ExcessPrecision_ThrowsException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.of(new BigDecimal("120.555"), USD));
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.of(new BigDecimal("0.5"), JPY));
+    }
+
+    @Test
+    @DisplayName("""
+            Multiply and add amounts without silent overflow
+            """)
+    void arithmetic_ValidAndOverflowingAmounts_ComputesExactly() {
+        // Given
+        Money dailyRate = Money.of(new BigDecimal("99.99"), USD);
+
+        // When
+        Money actual = dailyRate.times(3).plus(Money.of(BigDecimal.ONE, USD));
+
+        // Then
+        assertEquals(new Money(30097, USD), actual);
+        assertThrows(ArithmeticException.class,
+                () -> new Money(Long.MAX_VALUE, USD).times(2));
+        assertThrows(IllegalArgumentException.class,
+                () -> dailyRate.plus(new Money(100, JPY)));
+    }
+
+    @Test
+    @DisplayName("""
+            Serialize money as a decimal amount with its currency code
+            """)
+    void serialize_Money_WritesAmountAndCurrency() throws JsonProcessingException {
+        // When
+        String actual = new ObjectMapper().writeValueAsString(new Money(60000, USD));
+
+        // Then
+        assertEquals("{\"amount\":600.00,\"currency\":\"USD\"}", actual);
+    }
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.example.stayfinder.model.Accommodation;
 import com.example.stayfinder.model.Address;
 import com.example.stayfinder.model.Booking;
+import com.example.stayfinder.model.Money;
 import com.example.stayfinder.model.User;
 import com.example.stayfinder.repository.booking.BookingRepository;
 import java.math.BigDecimal;
@@ -16,6 +17,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 import javax.sql.DataSource;
@@ -33,6 +35,7 @@ import org.springframework.test.context.jdbc.Sql;
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public class BookingRepositoryTest {
+    private static final Currency USD = Currency.getInstance("USD");
     @Autowired
     private BookingRepository bookingRepository;
 
@@ -283,7 +286,7 @@ public class BookingRepositoryTest {
                         .setType(Accommodation.Type.APARTMENT)
                         .setLocation(createAddress())
                         .setSize("1000 sqft")
-                        .setDailyRate(BigDecimal.valueOf(120.00))
+                        .setDailyRate(Money.of(BigDecimal.valueOf(120.00), USD))
                         .setAvailability(5)
         );
     }
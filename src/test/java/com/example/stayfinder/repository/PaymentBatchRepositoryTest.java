@@ -0,0 +1,155 @@
+package com.example.stayfinder.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.stayfinder.config.MoneyConfig;
+import com.example.stayfinder.model.Booking;
+import com.example.stayfinder.model.Payment;
+import com.example.stayfinder.model.User;
+import com.example.stayfinder.repository.payment.PaymentBatchRepository;
+import com.example.stayfinder.repository.payment.PaymentBatchRepository.PaymentStatusUpdate;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.jdbc.Sql;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PaymentBatchRepository.class, MoneyConfig.class})
+public class PaymentBatchRepositoryTest {
+    private static final String PENDING_SESSION_ID = "session-12345";
+    private static final String PAID_SESSION_ID = "session-67890";
+
+    @Autowired
+    private PaymentBatchRepository paymentBatchRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void beforeAll(@Autowired DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/delete-all-data-before-tests.sql"));
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            Cancel a pending payment session
+            """)
+    @Sql(scripts = {"classpath:database/roles/insert-into-roles.sql",
+            "classpath:database/users/insert-into-users.sql",
+            "classpath:database/accoms/insert-into-accommodations.sql",
+            "classpath:database/bookings/insert-into-bookings.sql",
+            "classpath:database/payments/insert-into-payments.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"classpath:database/payments/delete-all-from-payments.sql",
+            "classpath:database/bookings/delete-all-from-bookings.sql",
+            "classpath:database/accoms/delete-all-from-accommodations.sql",
+            "classpath:database/users/delete-all-from-users.sql",
+            "classpath:database/roles/delete-all-from-roles.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void updateStatusBySessionId_CancelPendingSession_ReturnsUpdate() {
+        // When
+        Optional<PaymentStatusUpdate> actual = paymentBatchRepository.updateStatusBySessionId(
+                PENDING_SESSION_ID, Payment.PaymentStatus.PENDING, Booking.Status.PENDING);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(Payment.PaymentStatus.PENDING, actual.get().status());
+        assertEquals(0, countRevenueRollups());
+    }
+
+    @Test
+    @DisplayName("""
+            Cancel of a paid payment session keeps the payment, booking and revenue intact
+            """)
+    @Sql(scripts = {"classpath:database/roles/insert-into-roles.sql",
+            "classpath:database/users/insert-into-users.sql",
+            "classpath:database/accoms/insert-into-accommodations.sql",
+            "classpath:database/bookings/insert-into-bookings.sql",
+            "classpath:database/payments/insert-into-payments.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"classpath:database/payments/delete-all-from-payments.sql",
+            "classpath:database/bookings/delete-all-from-bookings.sql",
+            "classpath:database/accoms/delete-all-from-accommodations.sql",
+            "classpath:database/users/delete-all-from-users.sql",
+            "classpath:database/roles/delete-all-from-roles.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void updateStatusBySessionId_CancelPaidSession_KeepsPaidStatus() {
+        // Given
+        String bookingStatus = getBookingStatus(PAID_SESSION_ID);
+
+        // When
+        Optional<PaymentStatusUpdate> actual = paymentBatchRepository.updateStatusBySessionId(
+                PAID_SESSION_ID, Payment.PaymentStatus.PENDING, Booking.Status.PENDING);
+
+        // Then
+        assertTrue(actual.isEmpty());
+        assertEquals(Payment.PaymentStatus.PAID.name(), jdbcTemplate.queryForObject(
+                "SELECT status FROM payments WHERE session_id = ?", String.class,
+                PAID_SESSION_ID));
+        assertEquals(bookingStatus, getBookingStatus(PAID_SESSION_ID));
+        assertEquals(0, countRevenueRollups());
+    }
+
+    @Test
+    @DisplayName("""
+            Confirm a pending session and return the booking user's names and language
+            """)
+    @Sql(scripts = {"classpath:database/roles/insert-into-roles.sql",
+            "classpath:database/users/insert-into-users.sql",
+            "classpath:database/accoms/insert-into-accommodations.sql",
+            "classpath:database/bookings/insert-into-bookings.sql",
+            "classpath:database/payments/insert-into-payments.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"classpath:database/payments/delete-all-from-payments.sql",
+            "classpath:database/bookings/delete-all-from-bookings.sql",
+            "classpath:database/accoms/delete-all-from-accommodations.sql",
+            "classpath:database/users/delete-all-from-users.sql",
+            "classpath:database/roles/delete-all-from-roles.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void confirmSessions_PendingSession_ReturnsUserDetails() {
+        // Given
+        jdbcTemplate.update("UPDATE users SET language_code = 'uk' WHERE id = 4");
+
+        // When
+        List<PaymentStatusUpdate> actual = paymentBatchRepository.confirmSessions(
+                List.of(PENDING_SESSION_ID));
+
+        // Then
+        assertEquals(1, actual.size());
+        User user = actual.get(0).toPayment().getBooking().getUser();
+        assertEquals(4L, user.getId());
+        assertEquals("John", user.getFirstName());
+        assertEquals("Doe", user.getLastName());
+        assertEquals("uk", user.getLanguageCode());
+        assertEquals(Payment.PaymentStatus.PAID, actual.get(0).status());
+    }
+
+    private String getBookingStatus(String sessionId) {
+        return jdbcTemplate.queryForObject("SELECT b.status FROM bookings b "
+                + "JOIN payments p ON p.booking_id = b.id WHERE p.session_id = ?",
+                String.class, sessionId);
+    }
+
+    private int countRevenueRollups() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM revenue_daily_rollups", Integer.class);
+        return count == null ? 0 : count;
+    }
+}
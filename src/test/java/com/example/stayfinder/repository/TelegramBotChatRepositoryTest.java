@@ -8,7 +8,10 @@ import com.example.stayfinder.model.TelegramBotChat;
 import com.example.stayfinder.repository.telegrambotchat.TelegramBotChatRepository;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -80,4 +83,27 @@ public class TelegramBotChatRepositoryTest {
         // Then
         assertFalse(optionalBotChat.isPresent());
     }
+
+    @Test
+    @DisplayName("""
+            Find TelegramBotChats for a set of userIds in one query
+            """)
+    @Sql(scripts = {
+            "classpath:database/telegram_bot_chats/insert-into-telegram-bot-chats.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {
+            "classpath:database/telegram_bot_chats/delete-all-from-telegram-bot-chats.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findAllByUserIdIn_MixedUserIds_ReturnsExistingChats() {
+        // Given
+        List<Long> userIds = List.of(1L, 2L, 99L);
+
+        // When
+        List<TelegramBotChat> botChats = telegramBotChatRepository.findAllByUserIdIn(userIds);
+
+        // Then
+        assertEquals(Set.of(12345L, 67890L), botChats.stream()
+                .map(TelegramBotChat::getChatId)
+                .collect(Collectors.toSet()));
+    }
 }
@@ -0,0 +1,75 @@
+package com.example.stayfinder.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.stayfinder.model.BroadcastStatus;
+import com.example.stayfinder.repository.notification.TelegramBroadcastRepository;
+import com.example.stayfinder.repository.notification.TelegramBroadcastRepository.Broadcast;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TelegramBroadcastRepository.class)
+public class TelegramBroadcastRepositoryTest {
+    private static final String MESSAGE = "Hello";
+
+    @Autowired
+    private TelegramBroadcastRepository telegramBroadcastRepository;
+
+    @Test
+    @DisplayName("""
+            Lease a running broadcast once until its cursor is advanced
+            """)
+    void leaseRunning_LeasedBroadcast_IsNotLeasedAgainUntilAdvanced() {
+        // Given
+        Broadcast saved = telegramBroadcastRepository.save(MESSAGE, 3L);
+
+        // When
+        Optional<Broadcast> leased = telegramBroadcastRepository.leaseRunning(120);
+        Optional<Broadcast> leasedAgain = telegramBroadcastRepository.leaseRunning(120);
+        boolean advanced = telegramBroadcastRepository.advance(saved.id(), 0L, 2L, 1L, 1L, 0L);
+
+        // Then
+        assertEquals(Optional.of(saved.id()), leased.map(Broadcast::id));
+        assertTrue(leasedAgain.isEmpty());
+        assertTrue(advanced);
+        assertFalse(telegramBroadcastRepository.advance(saved.id(), 0L, 2L, 1L, 1L, 0L));
+        Broadcast actual = telegramBroadcastRepository.leaseRunning(120).orElseThrow();
+        assertEquals(2L, actual.lastChatId());
+        assertEquals(1L, actual.sent());
+        assertEquals(1L, actual.failed());
+    }
+
+    @Test
+    @DisplayName("""
+            Cancel a paused broadcast and keep it out of the lease
+            """)
+    void updateStatus_CancelPausedBroadcast_SetsFinishedAt() {
+        // Given
+        Broadcast saved = telegramBroadcastRepository.save(MESSAGE, 3L);
+        telegramBroadcastRepository.updateStatus(saved.id(),
+                List.of(BroadcastStatus.RUNNING), BroadcastStatus.PAUSED);
+
+        // When
+        Optional<Broadcast> actual = telegramBroadcastRepository.updateStatus(saved.id(),
+                List.of(BroadcastStatus.RUNNING, BroadcastStatus.PAUSED),
+                BroadcastStatus.CANCELED);
+
+        // Then
+        assertEquals(Optional.of(BroadcastStatus.CANCELED), actual.map(Broadcast::status));
+        assertNotNull(actual.get().finishedAt());
+        assertTrue(telegramBroadcastRepository.leaseRunning(120).isEmpty());
+        assertTrue(telegramBroadcastRepository.updateStatus(saved.id(),
+                List.of(BroadcastStatus.PAUSED), BroadcastStatus.RUNNING).isEmpty());
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.stayfinder.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingDaoAuthenticationProviderTest {
+    private static final String USERNAME = "bob";
+    private static final String PASSWORD = "secret";
+    private static final String ENCODED_PASSWORD = "encoded-secret";
+    private static final String CHANGED_ENCODED_PASSWORD = "encoded-changed";
+    private static final long TTL = 60_000;
+    private static final int MAX_SIZE = 2;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    private BasicCredentialCache basicCredentialCache;
+    private CachingDaoAuthenticationProvider authenticationProvider;
+
+    @BeforeEach
+    void setUp() {
+        basicCredentialCache = new BasicCredentialCache(TTL, MAX_SIZE);
+        authenticationProvider = new CachingDaoAuthenticationProvider(
+                userDetailsService, passwordEncoder, basicCredentialCache);
+    }
+
+    @Test
+    @DisplayName("""
+            Verify the password with the encoder on a miss and skip it on a cache hit
+            """)
+    void authenticate_RepeatedCredentials_HashesOnce() {
+        // Given
+        when(userDetailsService.loadUserByUsername(USERNAME))
+                .thenReturn(createUser(ENCODED_PASSWORD));
+        when(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+
+        // When
+        authenticationProvider.authenticate(createToken(PASSWORD));
+        authenticationProvider.authenticate(createToken(PASSWORD));
+
+        // Then
+        verify(passwordEncoder, times(1)).matches(PASSWORD, ENCODED_PASSWORD);
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a wrong password even when the user's credentials are cached
+            """)
+    void authenticate_WrongPasswordAfterHit_ThrowsException() {
+        // Given
+        when(userDetailsService.loadUserByUsername(USERNAME))
+                .thenReturn(createUser(ENCODED_PASSWORD));
+        when(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+        authenticationProvider.authenticate(createToken(PASSWORD));
+
+        // Then
+        assertThrows(BadCredentialsException.class,
+                () -> authenticationProvider.authenticate(createToken("wrong")));
+    }
+
+    @Test
+    @DisplayName("""
+            Verify the password again after the stored password hash has changed
+            """)
+    void authenticate_PasswordChanged_InvalidatesCachedCredential() {
+        // Given
+        when(userDetailsService.loadUserByUsername(USERNAME))
+                .thenReturn(createUser(ENCODED_PASSWORD))
+                .thenReturn(createUser(CHANGED_ENCODED_PASSWORD));
+        when(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+        when(passwordEncoder.matches(PASSWORD, CHANGED_ENCODED_PASSWORD)).thenReturn(false);
+        authenticationProvider.authenticate(createToken(PASSWORD));
+
+        // Then
+        assertThrows(BadCredentialsException.class,
+                () -> authenticationProvider.authenticate(createToken(PASSWORD)));
+        verify(passwordEncoder).matches(PASSWORD, CHANGED_ENCODED_PASSWORD);
+    }
+
+    @Test
+    @DisplayName("""
+            Verify the password again after the cached credential was evicted
+            """)
+    void authenticate_EvictedCredential_HashesAgain() {
+        // Given
+        when(userDetailsService.loadUserByUsername(USERNAME))
+                .thenReturn(createUser(ENCODED_PASSWORD));
+        when(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+        authenticationProvider.authenticate(createToken(PASSWORD));
+
+        // When
+        basicCredentialCache.evict(USERNAME);
+        authenticationProvider.authenticate(createToken(PASSWORD));
+
+        // Then
+        verify(passwordEncoder, times(2)).matches(PASSWORD, ENCODED_PASSWORD);
+    }
+
+    @Test
+    @DisplayName("""
+            Evict only the least recently used credential when the cache is full
+            """)
+    void put_CacheFull_EvictsLeastRecentlyUsed() {
+        // Given
+        basicCredentialCache.put("alice", ENCODED_PASSWORD, PASSWORD);
+        basicCredentialCache.put(USERNAME, ENCODED_PASSWORD, PASSWORD);
+        basicCredentialCache.isVerified("alice", ENCODED_PASSWORD, PASSWORD);
+
+        // When
+        basicCredentialCache.put("carol", ENCODED_PASSWORD, PASSWORD);
+
+        // Then
+        assertTrue(basicCredentialCache.isVerified("alice", ENCODED_PASSWORD, PASSWORD));
+        assertTrue(basicCredentialCache.isVerified("carol", ENCODED_PASSWORD, PASSWORD));
+        assertFalse(basicCredentialCache.isVerified(USERNAME, ENCODED_PASSWORD, PASSWORD));
+    }
+
+    private UserDetails createUser(String encodedPassword) {
+        return User.withUsername(USERNAME)
+                .password(encodedPassword)
+                .roles("USER")
+                .build();
+    }
+
+    private UsernamePasswordAuthenticationToken createToken(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, password);
+    }
+}
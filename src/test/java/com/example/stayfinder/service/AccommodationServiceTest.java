@@ -13,12 +13,14 @@ import com.example.stayfinder.exception.EntityNotFoundException;
 import com.example.stayfinder.mapper.AccommodationMapper;
 import com.example.stayfinder.model.Accommodation;
 import com.example.stayfinder.model.Address;
+import com.example.stayfinder.model.Money;
 import com.example.stayfinder.model.User;
 import com.example.stayfinder.repository.accommodation.AccommodationRepository;
 import com.example.stayfinder.repository.address.AddressRepository;
 import com.example.stayfinder.service.accommodation.AccommodationServiceImpl;
 import com.example.stayfinder.service.notification.NotificationService;
 import java.math.BigDecimal;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -36,6 +38,7 @@ import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 public class AccommodationServiceTest {
+    private static final Currency USD = Currency.getInstance("USD");
     @InjectMocks
     private AccommodationServiceImpl accommodationService;
     @Mock
@@ -215,7 +218,7 @@ public class AccommodationServiceTest {
                 .setAmenities(accommodation.getAmenities().stream()
                         .map(Enum::name)
                         .collect(Collectors.toSet()))
-                .setDailyRate(accommodation.getDailyRate())
+                .setDailyRate(accommodation.getDailyRate().toBigDecimal())
                 .setAvailability(accommodation.getAvailability());
     }
 
@@ -224,7 +227,7 @@ public class AccommodationServiceTest {
                 .setType(Accommodation.Type.valueOf(requestDto.type()))
                 .setLocation(createAddress(requestDto.location()))
                 .setSize(requestDto.size())
-                .setDailyRate(requestDto.dailyRate())
+                .setDailyRate(Money.of(requestDto.dailyRate(), USD))
                 .setAvailability(requestDto.availability())
                 .setAmenities(requestDto.amenities().stream()
                         .map(Accommodation.Amenities::valueOf)
@@ -249,7 +252,7 @@ public class AccommodationServiceTest {
                         .setType(Accommodation.Type.APARTMENT)
                         .setLocation(createAddress("Downtown"))
                         .setSize("Medium")
-                        .setDailyRate(BigDecimal.valueOf(120.0))
+                        .setDailyRate(Money.of(BigDecimal.valueOf(120.0), USD))
                         .setAvailability(5)
                         .setAmenities(Set.of(
                                 Accommodation.Amenities.BBQ_GRILL,
@@ -259,7 +262,7 @@ public class AccommodationServiceTest {
                         .setType(Accommodation.Type.VACATION_HOME)
                         .setLocation(createAddress("Beachside"))
                         .setSize("Large")
-                        .setDailyRate(BigDecimal.valueOf(250.0))
+                        .setDailyRate(Money.of(BigDecimal.valueOf(250.0), USD))
                         .setAvailability(3)
                         .setAmenities(Set.of(
                                 Accommodation.Amenities.SWIMMING_POOL,
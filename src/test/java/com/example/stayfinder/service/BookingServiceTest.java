@@ -18,6 +18,7 @@ import com.example.stayfinder.mapper.BookingMapper;
 import com.example.stayfinder.model.Accommodation;
 import com.example.stayfinder.model.Address;
 import com.example.stayfinder.model.Booking;
+import com.example.stayfinder.model.Money;
 import com.example.stayfinder.model.User;
 import com.example.stayfinder.repository.accommodation.AccommodationRepository;
 import com.example.stayfinder.repository.booking.BookingRepository;
@@ -25,10 +26,11 @@ import com.example.stayfinder.repository.booking.BookingSpecificationBuilder;
 import com.example.stayfinder.repository.user.UserRepository;
 import com.example.stayfinder.service.booking.BookingServiceImpl;
 import com.example.stayfinder.service.notification.NotificationService;
-import com.example.stayfinder.service.payment.StripePaymentService;
+import com.example.stayfinder.service.payment.PaymentService;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -46,6 +48,7 @@ import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 public class BookingServiceTest {
+    private static final Currency USD = Currency.getInstance("USD");
     @InjectMocks
     private BookingServiceImpl bookingService;
     @Mock
@@ -59,7 +62,7 @@ public class BookingServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private StripePaymentService paymentService;
+    private PaymentService paymentService;
     @Mock
     private NotificationService notificationService;
 
@@ -464,7 +467,7 @@ public class BookingServiceTest {
                 .setAmenities(Set.of(
                         Accommodation.Amenities.AIR_CONDITIONING,
                         Accommodation.Amenities.WIFI))
-                .setDailyRate(BigDecimal.valueOf(150.0))
+                .setDailyRate(Money.of(BigDecimal.valueOf(150.0), USD))
                 .setAvailability(10);
     }
 
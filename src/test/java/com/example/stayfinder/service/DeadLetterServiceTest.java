@@ -0,0 +1,105 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.dto.notification.DeadLetterDto;
+import com.example.stayfinder.dto.notification.DeadLetterReplayRequestDto;
+import com.example.stayfinder.dto.notification.DeadLetterReplayResponseDto;
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.repository.notification.NotificationDeadLetterRepository;
+import com.example.stayfinder.service.notification.DeadLetterServiceImpl;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class DeadLetterServiceTest {
+    @InjectMocks
+    private DeadLetterServiceImpl deadLetterService;
+    @Mock
+    private NotificationDeadLetterRepository deadLetterRepository;
+
+    @Test
+    @DisplayName("""
+            Get a page of dead letters with the total count
+            """)
+    public void findAll_ValidPageable_ReturnsPage() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        DeadLetterDto deadLetter = new DeadLetterDto(1L, 2L, "Message",
+                NotificationPriority.BROADCAST, 8, "Forbidden", now, now);
+
+        when(deadLetterRepository.findAll(20L, 10)).thenReturn(List.of(deadLetter));
+        when(deadLetterRepository.countAll()).thenReturn(21L);
+
+        // When
+        Page<DeadLetterDto> actual = deadLetterService.findAll(PageRequest.of(2, 10));
+
+        // Then
+        assertEquals(List.of(deadLetter), actual.getContent());
+        assertEquals(21L, actual.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("""
+            Replay only the requested dead letters
+            """)
+    public void replay_WithIds_ReplaysGivenIds() {
+        // Given
+        List<Long> ids = List.of(1L, 2L);
+
+        when(deadLetterRepository.replay(ids)).thenReturn(2);
+
+        // When
+        DeadLetterReplayResponseDto actual = deadLetterService.replay(
+                new DeadLetterReplayRequestDto(ids));
+
+        // Then
+        assertEquals(new DeadLetterReplayResponseDto(2), actual);
+        verify(deadLetterRepository).replay(ids);
+        verifyNoMoreInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Replay every dead letter when no ids are given
+            """)
+    public void replay_WithoutIds_ReplaysAll() {
+        // Given
+        when(deadLetterRepository.replayAll()).thenReturn(5);
+
+        // When
+        DeadLetterReplayResponseDto actual = deadLetterService.replay(
+                new DeadLetterReplayRequestDto(null));
+
+        // Then
+        assertEquals(new DeadLetterReplayResponseDto(5), actual);
+        verify(deadLetterRepository).replayAll();
+        verifyNoMoreInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Replay nothing for an empty id list
+            """)
+    public void replay_EmptyIds_ReplaysNothing() {
+        // When
+        DeadLetterReplayResponseDto actual = deadLetterService.replay(
+                new DeadLetterReplayRequestDto(List.of()));
+
+        // Then
+        assertEquals(new DeadLetterReplayResponseDto(0), actual);
+        verifyNoInteractions(deadLetterRepository);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.stayfinder.config.FakeSmtpServer;
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.repository.user.UserRepository;
+import com.example.stayfinder.service.email.EmailChannelSender;
+import com.example.stayfinder.service.notification.NotificationChannelSender;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailChannelSenderTest {
+    private static final FakeSmtpServer SMTP_SERVER = FakeSmtpServer.getInstance();
+    @Mock
+    private UserRepository userRepository;
+    private JavaMailSenderImpl mailSender;
+    private EmailChannelSender emailChannelSender;
+
+    @BeforeEach
+    void setUp() {
+        SMTP_SERVER.reset();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(SMTP_SERVER.getPort());
+        emailChannelSender = new EmailChannelSender(mailSender, userRepository,
+                "no-reply@stayfinder.com", "StayFinder notification");
+    }
+
+    @Test
+    @DisplayName("""
+            Send a batch of emails over a single SMTP connection
+            """)
+    void sendAll_SeveralMessages_UsesOneConnection() throws Exception {
+        // Given
+        List<NotificationChannelSender.ChannelMessage> messages = List.of(
+                getChannelMessage("john.doe@example.com", "Message 1"),
+                getChannelMessage("jane.doe@example.com", "Message 2"),
+                getChannelMessage("admin@example.com", "Message 3"));
+
+        // When
+        List<CompletableFuture<Void>> results = emailChannelSender.sendAll(messages);
+
+        // Then
+        assertEquals(3, results.size());
+        for (CompletableFuture<Void> result : results) {
+            result.get();
+        }
+        assertEquals(List.of("john.doe@example.com"), SMTP_SERVER.takeMessage().recipients());
+        assertEquals(List.of("jane.doe@example.com"), SMTP_SERVER.takeMessage().recipients());
+        FakeSmtpServer.MailMessage lastMessage = SMTP_SERVER.takeMessage();
+        assertEquals(List.of("admin@example.com"), lastMessage.recipients());
+        assertTrue(lastMessage.data().contains("Message 3"));
+        assertEquals(1, SMTP_SERVER.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("""
+            Fail every message of the batch when the SMTP server is unreachable
+            """)
+    void sendAll_UnreachableServer_FailsAllMessages() {
+        // Given
+        mailSender.setPort(1);
+
+        // When
+        List<CompletableFuture<Void>> results = emailChannelSender.sendAll(List.of(
+                getChannelMessage("john.doe@example.com", "Message 1"),
+                getChannelMessage("jane.doe@example.com", "Message 2")));
+
+        // Then
+        assertEquals(2, results.size());
+        for (CompletableFuture<Void> result : results) {
+            assertThrows(ExecutionException.class, result::get);
+        }
+    }
+
+    private NotificationChannelSender.ChannelMessage getChannelMessage(String recipient,
+                                                                       String text) {
+        return new NotificationChannelSender.ChannelMessage(
+                recipient, text, NotificationPriority.TRANSACTIONAL);
+    }
+}
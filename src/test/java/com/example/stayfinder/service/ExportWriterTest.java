@@ -0,0 +1,66 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.stayfinder.service.export.ExportColumn;
+import com.example.stayfinder.service.export.ExportFormat;
+import com.example.stayfinder.service.export.ExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ExportWriterTest {
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            new ExportColumn<>("id", Row::id),
+            new ExportColumn<>("full_name", Row::fullName));
+
+    private final ExportWriter exportWriter = new ExportWriter(new ObjectMapper());
+
+    @Test
+    @DisplayName("""
+            Write a CSV header and quote values containing separators or quotes
+            """)
+    public void write_Csv_WritesHeaderAndEscapedRows() {
+        // Given
+        Stream<Row> rows = Stream.of(
+                new Row(1L, "Plain"),
+                new Row(2L, "Kyiv, \"Central\""),
+                new Row(3L, null));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        exportWriter.write(rows, ExportFormat.CSV, COLUMNS, outputStream);
+
+        // Then
+        String expected = "id,full_name\n"
+                + "1,Plain\n"
+                + "2,\"Kyiv, \"\"Central\"\"\"\n"
+                + "3,\n";
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("""
+            Write one JSON object per line with the same field names as the CSV header
+            """)
+    public void write_Ndjson_WritesOneObjectPerLine() {
+        // Given
+        Stream<Row> rows = Stream.of(new Row(1L, "First"), new Row(2L, null));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        exportWriter.write(rows, ExportFormat.NDJSON, COLUMNS, outputStream);
+
+        // Then
+        String expected = "{\"id\":1,\"full_name\":\"First\"}\n"
+                + "{\"id\":2,\"full_name\":null}\n";
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    record Row(Long id, String fullName) {
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.model.NotificationChannel;
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.repository.notification.NotificationOutboxRepository;
+import com.example.stayfinder.repository.user.UserRepository;
+import com.example.stayfinder.service.notification.NotificationChannelSender;
+import com.example.stayfinder.service.notification.NotificationOutboxDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationOutboxDispatcherTest {
+    private static final int BATCH_SIZE = 2;
+    private static final long RETRY_DELAY = 60;
+    private static final long MAX_RETRY_DELAY = 3600;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long SEND_TIMEOUT = 1000;
+    private static final long LEASE_TIME = 120;
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private NotificationChannelSender telegramSender;
+    @Mock
+    private NotificationChannelSender emailSender;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private MeterRegistry meterRegistry;
+    private NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(telegramSender.getChannel()).thenReturn(NotificationChannel.TELEGRAM);
+        when(emailSender.getChannel()).thenReturn(NotificationChannel.EMAIL);
+        meterRegistry = new SimpleMeterRegistry();
+        notificationOutboxDispatcher = new NotificationOutboxDispatcher(
+                notificationOutboxRepository, userRepository,
+                List.of(telegramSender, emailSender), transactionManager, meterRegistry,
+                NotificationChannel.TELEGRAM, BATCH_SIZE, RETRY_DELAY, MAX_RETRY_DELAY,
+                MAX_ATTEMPTS, SEND_TIMEOUT, LEASE_TIME);
+    }
+
+    @Test
+    @DisplayName("""
+            Dispatch deletes delivered messages and postpones failed ones until the outbox drains
+            """)
+    void dispatch_MixedResults_DeletesSentAndPostponesFailed() {
+        // Given
+        when(notificationOutboxRepository.leaseAvailable(BATCH_SIZE, LEASE_TIME)).thenReturn(
+                List.of(getMessage(1L, 10L), getMessage(2L, 20L)),
+                List.of(getMessage(3L, 30L)));
+        when(userRepository.findAllChannelsByIdIn(Set.of(10L, 20L))).thenReturn(List.of(
+                getUserChannel(10L, null), getUserChannel(20L, null)));
+        when(userRepository.findAllChannelsByIdIn(Set.of(30L))).thenReturn(List.of(
+                getUserChannel(30L, null)));
+        when(telegramSender.findRecipients(anyCollection())).thenReturn(
+                Map.of(10L, "100", 20L, "200"),
+                Map.of());
+        when(emailSender.findRecipients(List.of(30L))).thenReturn(Map.of());
+        when(telegramSender.sendAll(List.of(
+                getChannelMessage("100", "Message 1"),
+                getChannelMessage("200", "Message 2"))))
+                .thenReturn(List.of(
+                        CompletableFuture.completedFuture(null),
+                        CompletableFuture.failedFuture(new DataProcessingException(
+                                "Could not send a message to chat id: 200"))));
+
+        // When
+        notificationOutboxDispatcher.dispatch();
+
+        // Then
+        verify(notificationOutboxRepository).deleteAll(List.of(1L));
+        verify(notificationOutboxRepository).deleteAll(List.of(3L));
+        verify(notificationOutboxRepository).postponeAll(
+                List.of(2L), RETRY_DELAY, MAX_RETRY_DELAY);
+        assertEquals(1.0, meterRegistry.counter(
+                "notifications.outbox", "result", "sent").count());
+        assertEquals(1.0, meterRegistry.counter(
+                "notifications.outbox", "result", "failed").count());
+        assertEquals(1.0, meterRegistry.counter(
+                "notifications.outbox", "result", "unreachable").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Dispatch merges a user's messages into one digest sent outside the ack transaction
+            """)
+    void dispatch_SameUserMessages_SendsOneDigest() {
+        // Given
+        when(notificationOutboxRepository.leaseAvailable(BATCH_SIZE, LEASE_TIME)).thenReturn(
+                List.of(getMessage(1L, 10L), getMessage(2L, 10L), getMessage(3L, 10L)),
+                List.of());
+        when(userRepository.findAllChannelsByIdIn(Set.of(10L))).thenReturn(List.of(
+                getUserChannel(10L, null)));
+        when(telegramSender.findRecipients(List.of(10L))).thenReturn(Map.of(10L, "100"));
+        when(telegramSender.sendAll(List.of(getChannelMessage(
+                "100", "Message 1\n\nMessage 2\n\nMessage 3"))))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+        // When
+        notificationOutboxDispatcher.dispatch();
+
+        // Then
+        InOrder inOrder = inOrder(notificationOutboxRepository, telegramSender,
+                transactionManager);
+        inOrder.verify(notificationOutboxRepository).leaseAvailable(BATCH_SIZE, LEASE_TIME);
+        inOrder.verify(telegramSender).sendAll(anyList());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(notificationOutboxRepository).deleteAll(List.of(1L, 2L, 3L));
+        inOrder.verify(transactionManager).commit(any());
+        assertEquals(3.0, meterRegistry.counter(
+                "notifications.outbox", "result", "sent").count());
+        assertEquals(2.0, meterRegistry.counter("notifications.outbox.coalesced").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Dispatch uses the preferred channel and falls back to a reachable one
+            """)
+    void dispatch_PreferredChannelUnavailable_FallsBackToTelegram() {
+        // Given
+        when(notificationOutboxRepository.leaseAvailable(BATCH_SIZE, LEASE_TIME)).thenReturn(
+                List.of(getMessage(1L, 10L), getMessage(2L, 20L)),
+                List.of());
+        when(userRepository.findAllChannelsByIdIn(Set.of(10L, 20L))).thenReturn(List.of(
+                getUserChannel(10L, NotificationChannel.EMAIL),
+                getUserChannel(20L, NotificationChannel.EMAIL)));
+        when(emailSender.findRecipients(anyCollection()))
+                .thenReturn(Map.of(20L, "jane.doe@example.com"));
+        when(telegramSender.findRecipients(List.of(10L))).thenReturn(Map.of(10L, "100"));
+        when(emailSender.sendAll(List.of(
+                getChannelMessage("jane.doe@example.com", "Message 2"))))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null)));
+        when(telegramSender.sendAll(List.of(getChannelMessage("100", "Message 1"))))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+        // When
+        notificationOutboxDispatcher.dispatch();
+
+        // Then
+        verify(notificationOutboxRepository).deleteAll(List.of(1L, 2L));
+        assertEquals(1.0, meterRegistry.counter("notifications.channel",
+                "channel", "email", "result", "sent").count());
+        assertEquals(1.0, meterRegistry.counter("notifications.channel",
+                "channel", "telegram", "result", "sent").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Dispatch moves a message to the dead letters after its last attempt fails
+            """)
+    void dispatch_LastAttemptFails_MovesMessageToDeadLetters() {
+        // Given
+        when(notificationOutboxRepository.leaseAvailable(BATCH_SIZE, LEASE_TIME)).thenReturn(
+                List.of(getMessage(1L, 10L, MAX_ATTEMPTS)),
+                List.of());
+        when(userRepository.findAllChannelsByIdIn(Set.of(10L))).thenReturn(List.of(
+                getUserChannel(10L, null)));
+        when(telegramSender.findRecipients(List.of(10L))).thenReturn(Map.of(10L, "100"));
+        when(telegramSender.sendAll(List.of(getChannelMessage("100", "Message 1"))))
+                .thenReturn(List.of(CompletableFuture.failedFuture(
+                        new DataProcessingException("Bad Request: chat not found"))));
+
+        // When
+        notificationOutboxDispatcher.dispatch();
+
+        // Then
+        verify(notificationOutboxRepository).deadLetterAll(List.of(
+                new NotificationOutboxRepository.FailedMessage(
+                        1L, "Bad Request: chat not found")));
+        verify(notificationOutboxRepository, never()).postponeAll(
+                anyCollection(), anyLong(), anyLong());
+        assertEquals(1.0, meterRegistry.counter(
+                "notifications.outbox", "result", "dead_lettered").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Dispatch cancels a delivery that times out so the channel does not send it later
+            """)
+    void dispatch_DeliveryTimesOut_CancelsDeliveryAndPostpones() {
+        // Given
+        CompletableFuture<Void> delivery = new CompletableFuture<>();
+        when(notificationOutboxRepository.leaseAvailable(BATCH_SIZE, LEASE_TIME)).thenReturn(
+                List.of(getMessage(1L, 10L)),
+                List.of());
+        when(userRepository.findAllChannelsByIdIn(Set.of(10L))).thenReturn(List.of(
+                getUserChannel(10L, null)));
+        when(telegramSender.findRecipients(List.of(10L))).thenReturn(Map.of(10L, "100"));
+        when(telegramSender.sendAll(List.of(getChannelMessage("100", "Message 1"))))
+                .thenReturn(List.of(delivery));
+
+        // When
+        notificationOutboxDispatcher.dispatch();
+
+        // Then
+        assertTrue(delivery.isCancelled());
+        verify(notificationOutboxRepository).postponeAll(
+                List.of(1L), RETRY_DELAY, MAX_RETRY_DELAY);
+        verify(notificationOutboxRepository, never()).deleteAll(anyCollection());
+    }
+
+    private NotificationOutboxRepository.OutboxMessage getMessage(Long id, Long userId) {
+        return getMessage(id, userId, 1);
+    }
+
+    private NotificationOutboxRepository.OutboxMessage getMessage(Long id, Long userId,
+                                                                  int attempts) {
+        return new NotificationOutboxRepository.OutboxMessage(
+                id, userId, "Message " + id, NotificationPriority.TRANSACTIONAL, attempts);
+    }
+
+    private NotificationChannelSender.ChannelMessage getChannelMessage(String recipient,
+                                                                       String text) {
+        return new NotificationChannelSender.ChannelMessage(
+                recipient, text, NotificationPriority.TRANSACTIONAL);
+    }
+
+    private UserRepository.UserChannel getUserChannel(Long userId,
+                                                      NotificationChannel channel) {
+        return new UserRepository.UserChannel() {
+            @Override
+            public Long getId() {
+                return userId;
+            }
+
+            @Override
+            public NotificationChannel getNotificationChannel() {
+                return channel;
+            }
+        };
+    }
+}
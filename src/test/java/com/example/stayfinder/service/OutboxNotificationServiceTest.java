@@ -0,0 +1,259 @@
+package com.example.stayfinder.service;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.example.stayfinder.model.Accommodation;
+import com.example.stayfinder.model.Address;
+import com.example.stayfinder.model.Booking;
+import com.example.stayfinder.model.Money;
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.model.Payment;
+import com.example.stayfinder.model.User;
+import com.example.stayfinder.repository.notification.NotificationOutboxRepository;
+import com.example.stayfinder.service.notification.NotificationTemplates;
+import com.example.stayfinder.service.notification.OutboxNotificationService;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxNotificationServiceTest {
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final long DIGEST_WINDOW = 60;
+    private static final long DIGEST_MAX_DELAY = 300;
+    private static final LocalDateTime CHECK_IN = LocalDateTime.of(2025, 3, 10, 14, 0);
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+    private OutboxNotificationService outboxNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        outboxNotificationService = new OutboxNotificationService(
+                notificationOutboxRepository, new NotificationTemplates("en"),
+                DIGEST_WINDOW, DIGEST_MAX_DELAY);
+    }
+
+    @Test
+    @DisplayName("""
+            Send booking create message
+            """)
+    public void sendBookingCreateMessage_ValidBooking_WritesOutboxMessage() {
+        // Given
+        Accommodation accommodation = getAccommodation();
+        User user = getUser();
+        Booking booking = getBooking(accommodation, user);
+        String expectedMessage = """
+                Type notification: #BOOKING_CREATED
+                Booking detail:\s
+                           Booking id: 1
+                           Check in date: 2025-03-10T14:00
+                           Check out date: 2025-03-12T14:00
+                           Accommodation Id: 1
+                Reservation owner:\s
+                           id:  1
+                           name: John Doe""";
+
+        // When
+        outboxNotificationService.sendCreateBookingMessage(
+                accommodation, user, booking);
+
+        // Then
+        verify(notificationOutboxRepository).postponePending(
+                user.getId(), DIGEST_WINDOW, DIGEST_MAX_DELAY);
+        verify(notificationOutboxRepository).save(user.getId(), expectedMessage,
+                NotificationPriority.TRANSACTIONAL, DIGEST_WINDOW);
+        verifyNoMoreInteractions(notificationOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Send booking canceled message
+            """)
+    public void sendBookingCanceledMessage_ValidBooking_WritesOutboxMessage() {
+        // Given
+        User user = getUser();
+        Booking booking = getBooking(null, user);
+        String expectedMessage = """
+                Type notification: #BOOKING_CANCELED
+                Booking id: 1
+                Reservation owner:\s
+                           id:  1
+                           name: John Doe""";
+
+        // When
+        outboxNotificationService.sendCancelBookingMessage(user, booking);
+
+        // Then
+        verify(notificationOutboxRepository).postponePending(
+                user.getId(), DIGEST_WINDOW, DIGEST_MAX_DELAY);
+        verify(notificationOutboxRepository).save(user.getId(), expectedMessage,
+                NotificationPriority.TRANSACTIONAL, DIGEST_WINDOW);
+        verifyNoMoreInteractions(notificationOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Send accommodation create message
+            """)
+    public void sendAccommodationCreateMessage_ValidAccommodation_WritesOutboxMessage() {
+        // Given
+        Accommodation accommodation = getAccommodation();
+        User user = getUser();
+        String expectedMessage = """
+                Type notification: #ACCOMMODATION_CREATED
+                Accommodation detail:\s
+                           id:  1
+                           type: HOUSE
+                           size: Large
+                           daily rate: %s""".formatted(accommodation.getDailyRate());
+
+        // When
+        outboxNotificationService.sendCreateAccommodationMessage(
+                accommodation, user);
+
+        // Then
+        verify(notificationOutboxRepository).postponePending(
+                user.getId(), DIGEST_WINDOW, DIGEST_MAX_DELAY);
+        verify(notificationOutboxRepository).save(user.getId(), expectedMessage,
+                NotificationPriority.TRANSACTIONAL, DIGEST_WINDOW);
+        verifyNoMoreInteractions(notificationOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Send accommodation release message
+            """)
+    public void sendAccommodationReleaseMessage_ValidAccommodationIds_WritesOutboxMessages() {
+        // Given
+        Set<Long> accommodationIds = new LinkedHashSet<>(List.of(1L, 2L, 3L));
+        List<User> userList = List.of(getUser(), getAnotherUser());
+        String expectedMessage = """
+                #hourly_check
+                    Accommodations with id: 1, 2, 3 are released""";
+
+        // When
+        outboxNotificationService.sendReleaseAccommodationMessage(
+                accommodationIds, userList);
+
+        // Then
+        verify(notificationOutboxRepository).saveAll(
+                List.of(1L, 2L), expectedMessage, NotificationPriority.BROADCAST);
+        verifyNoMoreInteractions(notificationOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Send payment success message without waiting for the digest window
+            """)
+    public void sendPaymentSuccessMessage_ValidPayment_WritesOutboxMessage() {
+        // Given
+        Payment payment = getPayment();
+        String expectedMessage = """
+                Type notification: #PAYMENT_CREATED
+                The payment was successful!
+                Payment detail:\s
+                           id:  1
+                           bookingId:  1
+                           status: PAID
+                           amount: %s""".formatted(payment.getAmount());
+
+        // When
+        outboxNotificationService.sendSuccessPaymentMessage(payment);
+
+        // Then
+        verify(notificationOutboxRepository).save(
+                payment.getBooking().getUser().getId(), expectedMessage,
+                NotificationPriority.TRANSACTIONAL);
+        verifyNoMoreInteractions(notificationOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Render the release message once per user language
+            """)
+    public void sendAccommodationReleaseMessage_MixedLanguages_WritesMessagePerLanguage() {
+        // Given
+        Set<Long> accommodationIds = Set.of(5L);
+        List<User> userList = List.of(getUser().setLanguageCode("uk"), getAnotherUser());
+
+        // When
+        outboxNotificationService.sendReleaseAccommodationMessage(
+                accommodationIds, userList);
+
+        // Then
+        verify(notificationOutboxRepository).saveAll(List.of(1L), """
+                #hourly_check
+                    Помешкання з id: 5 знову доступні""", NotificationPriority.BROADCAST);
+        verify(notificationOutboxRepository).saveAll(List.of(2L), """
+                #hourly_check
+                    Accommodations with id: 5 are released""", NotificationPriority.BROADCAST);
+        verifyNoMoreInteractions(notificationOutboxRepository);
+    }
+
+    private Address createAddress() {
+        return new Address()
+                .setAddress("City Center");
+    }
+
+    private Accommodation getAccommodation() {
+        return new Accommodation()
+                .setId(1L)
+                .setType(Accommodation.Type.HOUSE)
+                .setLocation(createAddress())
+                .setSize("Large")
+                .setAmenities(Set.of(
+                        Accommodation.Amenities.AIR_CONDITIONING,
+                        Accommodation.Amenities.WIFI))
+                .setDailyRate(Money.of(BigDecimal.valueOf(150.0), USD))
+                .setAvailability(10);
+    }
+
+    private User getUser() {
+        return new User()
+                .setId(1L)
+                .setUsername("john.doe")
+                .setFirstName("John")
+                .setLastName("Doe")
+                .setEmail("john.doe@example.com");
+    }
+
+    private User getAnotherUser() {
+        return new User()
+                .setId(2L).setUsername("jane.doe")
+                .setFirstName("Jane")
+                .setLastName("Doe")
+                .setEmail("jane.doe@example.com");
+    }
+
+    private Booking getBooking(Accommodation accommodation, User user) {
+        return new Booking()
+                .setId(1L)
+                .setCheckInDate(CHECK_IN)
+                .setCheckOutDate(CHECK_IN.plusDays(2))
+                .setStatus(Booking.Status.PENDING)
+                .setAccommodation(accommodation)
+                .setUser(user);
+    }
+
+    private Payment getPayment() {
+        Booking booking = getBooking(getAccommodation(), getUser());
+        return new Payment()
+                .setId(1L)
+                .setBooking(booking)
+                .setSessionId("session_123")
+                .setSessionUrl("http://example.com/session_123")
+                .setExpiredTime(System.currentTimeMillis() + 3600 * 1000)
+                .setAmount(Money.of(BigDecimal.valueOf(600), USD))
+                .setStatus(Payment.PaymentStatus.PAID);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.repository.payment.PaymentBatchRepository;
+import com.example.stayfinder.service.payment.PaymentExpirySweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentExpirySweeperTest {
+    private static final int CHUNK_SIZE = 2;
+    @Mock
+    private PaymentBatchRepository paymentBatchRepository;
+    private MeterRegistry meterRegistry;
+    private PaymentExpirySweeper paymentExpirySweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentExpirySweeper = new PaymentExpirySweeper(
+                paymentBatchRepository, meterRegistry, CHUNK_SIZE, 60_000);
+    }
+
+    @Test
+    @DisplayName("""
+            Sweep expires payments chunk by chunk until a partial chunk is returned
+            """)
+    void sweep_FullAndPartialChunks_ExpiresAllAndRecordsMetrics() {
+        // Given
+        when(paymentBatchRepository.expirePendingPayments(anyLong(), eq(CHUNK_SIZE)))
+                .thenReturn(new PaymentBatchRepository.ExpiredPayments(2, 2))
+                .thenReturn(new PaymentBatchRepository.ExpiredPayments(1, 0));
+
+        // When
+        paymentExpirySweeper.sweep();
+
+        // Then
+        verify(paymentBatchRepository, times(2))
+                .expirePendingPayments(anyLong(), eq(CHUNK_SIZE));
+        assertEquals(3, meterRegistry.get("payments.expiry.rows")
+                .tag("table", "payments").counter().count());
+        assertEquals(2, meterRegistry.get("payments.expiry.rows")
+                .tag("table", "bookings").counter().count());
+        assertEquals(1, meterRegistry.get("payments.expiry.sweep").timer().count());
+    }
+
+    @Test
+    @DisplayName("""
+            Sweep stops once the time budget is spent
+            """)
+    void sweep_TimeBudgetSpent_StopsAfterCurrentChunk() {
+        // Given
+        PaymentExpirySweeper budgetedSweeper = new PaymentExpirySweeper(
+                paymentBatchRepository, meterRegistry, CHUNK_SIZE, 0);
+        when(paymentBatchRepository.expirePendingPayments(anyLong(), eq(CHUNK_SIZE)))
+                .thenReturn(new PaymentBatchRepository.ExpiredPayments(2, 2));
+
+        // When
+        budgetedSweeper.sweep();
+
+        // Then
+        verify(paymentBatchRepository).expirePendingPayments(anyLong(), eq(CHUNK_SIZE));
+    }
+}
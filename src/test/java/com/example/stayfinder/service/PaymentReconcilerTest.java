@@ -0,0 +1,128 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.exception.PaymentGatewayUnavailableException;
+import com.example.stayfinder.model.Money;
+import com.example.stayfinder.model.Payment;
+import com.example.stayfinder.repository.payment.PaymentBatchRepository;
+import com.example.stayfinder.service.notification.NotificationService;
+import com.example.stayfinder.service.payment.GatewaySessionState;
+import com.example.stayfinder.service.payment.PaymentGateway;
+import com.example.stayfinder.service.payment.PaymentReconciler;
+import com.example.stayfinder.service.payment.PaymentReconciliationReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentReconcilerTest {
+    private static final int PAGE_SIZE = 2;
+    private static final Currency USD = Currency.getInstance("USD");
+    @Mock
+    private PaymentBatchRepository paymentBatchRepository;
+    @Mock
+    private PaymentGateway paymentGateway;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private MeterRegistry meterRegistry;
+    private PaymentReconciler paymentReconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentReconciler = new PaymentReconciler(paymentBatchRepository, paymentGateway,
+                notificationService, transactionManager, meterRegistry, PAGE_SIZE, 2, 1, 86_400);
+        paymentReconciler.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentReconciler.shutdown();
+    }
+
+    @Test
+    @DisplayName("""
+            Reconcile pages through payments and repairs drifted ones in batches
+            """)
+    void reconcile_DriftedPayments_RepairsAndReportsDrift() {
+        // Given
+        when(paymentBatchRepository.findReconciliationCandidates(eq(0L), anyLong(), eq(PAGE_SIZE)))
+                .thenReturn(List.of(
+                        getCandidate(1L, "session-paid", Payment.PaymentStatus.PENDING),
+                        getCandidate(2L, "session-open", Payment.PaymentStatus.EXPIRED)));
+        when(paymentBatchRepository.findReconciliationCandidates(eq(2L), anyLong(), eq(PAGE_SIZE)))
+                .thenReturn(List.of(
+                        getCandidate(3L, "session-expired", Payment.PaymentStatus.PENDING)));
+        when(paymentGateway.getSessionState("session-paid"))
+                .thenReturn(GatewaySessionState.PAID);
+        when(paymentGateway.getSessionState("session-open"))
+                .thenReturn(GatewaySessionState.OPEN);
+        when(paymentGateway.getSessionState("session-expired"))
+                .thenReturn(GatewaySessionState.EXPIRED);
+        when(paymentBatchRepository.confirmSessions(List.of("session-paid")))
+                .thenReturn(List.of(new PaymentBatchRepository.PaymentStatusUpdate(
+                        1L, 1L, 1L, "John", "Doe", "en", Money.of(BigDecimal.valueOf(600), USD),
+                        Payment.PaymentStatus.PAID)));
+        when(paymentBatchRepository.expireSessions(List.of("session-expired")))
+                .thenReturn(new PaymentBatchRepository.ExpiredPayments(1, 1));
+
+        // When
+        PaymentReconciliationReport actual = paymentReconciler.reconcile();
+
+        // Then
+        assertEquals(new PaymentReconciliationReport(3, 1, 1, 1, 0), actual);
+        verify(notificationService).sendSuccessPaymentMessage(any(Payment.class));
+        assertEquals(1, meterRegistry.get("payments.reconciliation.drift")
+                .tag("type", "confirmed").counter().count());
+        assertEquals(1, meterRegistry.get("payments.reconciliation.drift")
+                .tag("type", "unresolved").counter().count());
+        assertEquals(1, meterRegistry.get("payments.reconciliation").timer().count());
+    }
+
+    @Test
+    @DisplayName("""
+            Reconcile counts gateway failures without repairing anything
+            """)
+    void reconcile_GatewayUnavailable_ReportsFailures() {
+        // Given
+        when(paymentBatchRepository.findReconciliationCandidates(eq(0L), anyLong(), eq(PAGE_SIZE)))
+                .thenReturn(List.of(
+                        getCandidate(1L, "session-paid", Payment.PaymentStatus.PENDING)));
+        when(paymentGateway.getSessionState("session-paid"))
+                .thenThrow(new PaymentGatewayUnavailableException("Gateway is unavailable"));
+
+        // When
+        PaymentReconciliationReport actual = paymentReconciler.reconcile();
+
+        // Then
+        assertEquals(new PaymentReconciliationReport(1, 0, 0, 0, 1), actual);
+        verify(paymentBatchRepository, never()).confirmSessions(any());
+        verify(paymentBatchRepository, never()).expireSessions(any());
+        verifyNoInteractions(notificationService, transactionManager);
+    }
+
+    private PaymentBatchRepository.ReconciliationCandidate getCandidate(
+            Long paymentId, String sessionId, Payment.PaymentStatus status) {
+        return new PaymentBatchRepository.ReconciliationCandidate(paymentId, sessionId, status);
+    }
+}
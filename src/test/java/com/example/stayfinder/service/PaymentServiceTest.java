@@ -0,0 +1,449 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.dto.payment.PaymentDto;
+import com.example.stayfinder.dto.payment.PaymentLowInfoDto;
+import com.example.stayfinder.dto.payment.PaymentWithoutSessionDto;
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.exception.EntityNotFoundException;
+import com.example.stayfinder.mapper.PaymentMapper;
+import com.example.stayfinder.model.Accommodation;
+import com.example.stayfinder.model.Booking;
+import com.example.stayfinder.model.Money;
+import com.example.stayfinder.model.Payment;
+import com.example.stayfinder.repository.booking.BookingRepository;
+import com.example.stayfinder.repository.payment.PaymentBatchRepository;
+import com.example.stayfinder.repository.payment.PaymentRepository;
+import com.example.stayfinder.service.notification.NotificationService;
+import com.example.stayfinder.service.payment.GatewaySession;
+import com.example.stayfinder.service.payment.PaymentExpirySweeper;
+import com.example.stayfinder.service.payment.PaymentGateway;
+import com.example.stayfinder.service.payment.PaymentReconciler;
+import com.example.stayfinder.service.payment.PaymentServiceImpl;
+import com.example.stayfinder.service.payment.PaymentSessionCache;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentServiceTest {
+    private static final Currency USD = Currency.getInstance("USD");
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private PaymentBatchRepository paymentBatchRepository;
+    @Mock
+    private PaymentMapper paymentMapper;
+    @Mock
+    private BookingRepository bookingRepository;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private PaymentSessionCache paymentSessionCache;
+    @Mock
+    private PaymentGateway paymentGateway;
+    @Mock
+    private PaymentExpirySweeper paymentExpirySweeper;
+    @Mock
+    private PaymentReconciler paymentReconciler;
+
+    @Test
+    @DisplayName("""
+            Find all payments by user ID when payments exist
+            """)
+    void findAllPaymentsByUserId_ExistingPayments_ReturnsPaymentList() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 5);
+        Payment payment1 = getPayment();
+        Payment payment2 = getPayment();
+        List<Payment> paymentsList = List.of(payment1, payment2);
+        Page<Payment> paymentsPage = new PageImpl<>(paymentsList);
+        PaymentLowInfoDto dto1 = getPaymentLowInfoDto(payment1);
+        PaymentLowInfoDto dto2 = getPaymentLowInfoDto(payment2);
+
+        when(paymentRepository.findByBookingUserId(1L, pageable))
+                .thenReturn(paymentsPage);
+        when(paymentMapper.toLowInfoDto(payment1)).thenReturn(dto1);
+        when(paymentMapper.toLowInfoDto(payment2)).thenReturn(dto2);
+
+        List<PaymentLowInfoDto> expected = List.of(dto1, dto2);
+
+        // When
+        Page<PaymentLowInfoDto> actual = paymentService.findAllByBookingUserId(1L, pageable);
+
+        // Then
+        assertEquals(expected, actual.getContent());
+        verify(paymentRepository).findByBookingUserId(1L, pageable);
+        verify(paymentMapper).toLowInfoDto(payment1);
+        verify(paymentMapper).toLowInfoDto(payment2);
+        verifyNoMoreInteractions(paymentRepository, paymentMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Find all payments by user ID when no payments exist
+            """)
+    void findAllPaymentsByUserId_NoPayments_ThrowsException() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 5);
+        when(paymentRepository.findByBookingUserId(99L, pageable))
+                .thenReturn(Page.empty());
+
+        // Then
+        assertThrows(EntityNotFoundException.class,
+                () -> paymentService.findAllByBookingUserId(99L, pageable));
+        verify(paymentRepository).findByBookingUserId(99L, pageable);
+        verifyNoMoreInteractions(paymentRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Create Stripe session successfully
+            """)
+    void createSession_ValidBookingId_ReturnsPaymentDto() {
+        // Given
+        Booking booking = getBooking();
+        Payment payment = getPayment();
+        PaymentDto expected = getPaymentDto(payment);
+        Money totalAmount = Money.of(BigDecimal.valueOf(600), USD);
+        GatewaySession session = getGatewaySession();
+        ArgumentCaptor<Payment> paymentCaptor = ArgumentCaptor.forClass(Payment.class);
+
+        when(paymentRepository.findFirstByBookingIdAndStatusAndExpiredTimeGreaterThan(
+                eq(1L), eq(Payment.PaymentStatus.PENDING), any(Long.class)))
+                .thenReturn(Optional.empty());
+        when(bookingRepository.findWithAccommodationById(1L)).thenReturn(Optional.of(booking));
+        when(paymentGateway.createSession(totalAmount, null)).thenReturn(session);
+        when(paymentRepository.save(paymentCaptor.capture())).thenReturn(payment);
+        when(paymentMapper.toDto(payment)).thenReturn(expected);
+
+        // When
+        PaymentDto actual = paymentService.createSession(1L, null);
+
+        // Then
+        assertEquals(expected, actual);
+        Payment capturedPayment = paymentCaptor.getValue();
+        assertEquals(payment.getSessionId(), capturedPayment.getSessionId());
+        assertEquals(payment.getSessionUrl(), capturedPayment.getSessionUrl());
+        assertEquals(payment.getAmount(), capturedPayment.getAmount());
+        assertEquals(payment.getStatus(), capturedPayment.getStatus());
+        verify(bookingRepository).findWithAccommodationById(1L);
+        verify(paymentGateway).createSession(totalAmount, null);
+        verify(paymentRepository).findFirstByBookingIdAndStatusAndExpiredTimeGreaterThan(
+                eq(1L), eq(Payment.PaymentStatus.PENDING), any(Long.class));
+        verify(paymentRepository).save(paymentCaptor.capture());
+        verify(paymentMapper).toDto(payment);
+        verifyNoMoreInteractions(
+                bookingRepository, paymentGateway, paymentRepository, paymentMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Create Stripe session fails when the payment gateway throws exception
+            """)
+    void createSession_GatewayException_ThrowsException() {
+        // Given
+        Booking booking = getBooking();
+        Money totalAmount = Money.of(BigDecimal.valueOf(600), USD);
+
+        when(paymentRepository.findFirstByBookingIdAndStatusAndExpiredTimeGreaterThan(
+                eq(1L), eq(Payment.PaymentStatus.PENDING), any(Long.class)))
+                .thenReturn(Optional.empty());
+        when(bookingRepository.findWithAccommodationById(1L)).thenReturn(Optional.of(booking));
+        when(paymentGateway.createSession(totalAmount, "payment-session-1-key-1"))
+                .thenThrow(new DataProcessingException(
+                        "Error occurred while creating payment session"));
+
+        // When & Then
+        assertThrows(DataProcessingException.class,
+                () -> paymentService.createSession(1L, "key-1"));
+        verify(bookingRepository).findWithAccommodationById(1L);
+        verify(paymentGateway).createSession(totalAmount, "payment-session-1-key-1");
+        verify(paymentRepository).findFirstByBookingIdAndStatusAndExpiredTimeGreaterThan(
+                eq(1L), eq(Payment.PaymentStatus.PENDING), any(Long.class));
+        verifyNoMoreInteractions(paymentRepository);
+        verifyNoInteractions(paymentMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Create Stripe session returns the live pending session of the booking
+            """)
+    void createSession_LivePendingSession_ReturnsExistingPayment() {
+        // Given
+        Payment payment = getPayment();
+        PaymentDto expected = getPaymentDto(payment);
+
+        when(paymentRepository.findFirstByBookingIdAndStatusAndExpiredTimeGreaterThan(
+                eq(1L), eq(Payment.PaymentStatus.PENDING), any(Long.class)))
+                .thenReturn(Optional.of(payment));
+        when(paymentMapper.toDto(payment)).thenReturn(expected);
+
+        // When
+        PaymentDto actual = paymentService.createSession(1L, "key-1");
+
+        // Then
+        assertEquals(expected, actual);
+        verify(paymentSessionCache).get(1L, "key-1");
+        verify(paymentSessionCache).put(1L, "key-1", expected, payment.getExpiredTime());
+        verifyNoInteractions(bookingRepository, paymentGateway);
+    }
+
+    @Test
+    @DisplayName("""
+            Create Stripe session replays the cached response for a known idempotency key
+            """)
+    void createSession_KnownIdempotencyKey_ReturnsCachedPayment() {
+        // Given
+        PaymentDto expected = getPaymentDto(getPayment());
+
+        when(paymentSessionCache.get(1L, "key-1")).thenReturn(expected);
+
+        // When
+        PaymentDto actual = paymentService.createSession(1L, "key-1");
+
+        // Then
+        assertEquals(expected, actual);
+        verifyNoInteractions(paymentRepository, bookingRepository, paymentMapper, paymentGateway);
+    }
+
+    @Test
+    @DisplayName("""
+            Process successful payment
+            """)
+    void processSuccessfulPayment_ValidSessionId_UpdatesPaymentAndBookingStatus() {
+        // Given
+        String validSessionId = "validSessionId";
+        PaymentBatchRepository.PaymentStatusUpdate update = getPaymentStatusUpdate(
+                Payment.PaymentStatus.PAID);
+        PaymentWithoutSessionDto expected = new PaymentWithoutSessionDto(
+                update.bookingId(), update.status().name(), update.amount().toBigDecimal());
+        ArgumentCaptor<Payment> paymentCaptor = ArgumentCaptor.forClass(Payment.class);
+
+        when(paymentBatchRepository.updateStatusBySessionId(validSessionId,
+                Payment.PaymentStatus.PAID, Booking.Status.CONFIRMED))
+                .thenReturn(Optional.of(update));
+        when(paymentMapper.toWithoutSessionDto(paymentCaptor.capture())).thenReturn(expected);
+
+        // When
+        PaymentWithoutSessionDto actual
+                = paymentService.processSuccessfulPayment(validSessionId);
+
+        // Then
+        assertEquals(expected, actual);
+        Payment payment = paymentCaptor.getValue();
+        assertEquals(update.paymentId(), payment.getId());
+        assertEquals(update.bookingId(), payment.getBooking().getId());
+        assertEquals(update.userId(), payment.getBooking().getUser().getId());
+        assertEquals(update.languageCode(), payment.getBooking().getUser().getLanguageCode());
+        verify(notificationService).sendSuccessPaymentMessage(payment);
+        verifyNoInteractions(paymentRepository, bookingRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Process successful payment fails for invalid sessionId
+            """)
+    void processSuccessfulPayment_InvalidSessionId_ThrowsException() {
+        // Given
+        String invalidSessionId = "invalidSessionId";
+
+        when(paymentBatchRepository.updateStatusBySessionId(invalidSessionId,
+                Payment.PaymentStatus.PAID, Booking.Status.CONFIRMED))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class, () -> {
+            paymentService.processSuccessfulPayment(invalidSessionId);
+        });
+        verifyNoInteractions(notificationService, paymentMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Process cancel payment successfully for a valid sessionId
+            """)
+    void processCancelPayment_ValidSessionId_UpdatesStatusesAndReturnsMessage() {
+        // Given
+        String sessionId = "session_123";
+        String expectedMessage = String.format("The payment for session ID '%s' "
+                + "has been canceled and can be made later.", sessionId);
+
+        when(paymentBatchRepository.updateStatusBySessionId(sessionId,
+                Payment.PaymentStatus.PENDING, Booking.Status.PENDING))
+                .thenReturn(Optional.of(getPaymentStatusUpdate(Payment.PaymentStatus.PENDING)));
+
+        // When
+        String actualMessage = paymentService.processCancelPayment(sessionId);
+
+        // Then
+        assertEquals(expectedMessage, actualMessage);
+        verify(paymentBatchRepository).updateStatusBySessionId(sessionId,
+                Payment.PaymentStatus.PENDING, Booking.Status.PENDING);
+        verifyNoMoreInteractions(paymentBatchRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Process cancel payment fails when sessionId is not found
+            """)
+    void processCancelPayment_InvalidSessionId_ThrowsException() {
+        // Given
+        String sessionId = "invalid_session_456";
+
+        when(paymentBatchRepository.updateStatusBySessionId(sessionId,
+                Payment.PaymentStatus.PENDING, Booking.Status.PENDING))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(EntityNotFoundException.class,
+                () -> paymentService.processCancelPayment(sessionId));
+        verifyNoMoreInteractions(paymentBatchRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Process cancel payment fails for an already paid session
+            """)
+    void processCancelPayment_PaidSession_ThrowsException() {
+        // Given
+        String sessionId = "session_paid";
+        Payment payment = new Payment()
+                .setSessionId(sessionId)
+                .setStatus(Payment.PaymentStatus.PAID);
+
+        when(paymentBatchRepository.updateStatusBySessionId(sessionId,
+                Payment.PaymentStatus.PENDING, Booking.Status.PENDING))
+                .thenReturn(Optional.empty());
+        when(paymentRepository.findBySessionId(sessionId)).thenReturn(Optional.of(payment));
+
+        // When & Then
+        assertThrows(DataProcessingException.class,
+                () -> paymentService.processCancelPayment(sessionId));
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("""
+            Check expired payments delegates to the expiry sweeper
+            """)
+    void checkExpiredPayments_SweepsExpiredPayments() {
+        // When
+        paymentService.checkExpiredPayments();
+
+        // Then
+        verify(paymentExpirySweeper).sweep();
+        verifyNoInteractions(paymentRepository, bookingRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Reconcile payments delegates to the payment reconciler
+            """)
+    void reconcilePayments_ReconcilesWithGateway() {
+        // When
+        paymentService.reconcilePayments();
+
+        // Then
+        verify(paymentReconciler).reconcile();
+        verifyNoInteractions(paymentRepository, bookingRepository, paymentGateway);
+    }
+
+    private PaymentBatchRepository.PaymentStatusUpdate getPaymentStatusUpdate(
+            Payment.PaymentStatus status) {
+        return new PaymentBatchRepository.PaymentStatusUpdate(
+                1L, 1L, 1L, "John", "Doe", "en", Money.of(BigDecimal.valueOf(600), USD), status);
+    }
+
+    private Payment getPayment() {
+        Clock fixedClock = Clock.fixed(
+                Instant.parse("2025-03-01T00:00:00Z"),
+                ZoneOffset.UTC);
+        return new Payment()
+                .setId(1L)
+                .setBooking(getBooking())
+                .setSessionId("session_123")
+                .setSessionUrl("http://example.com/session_123")
+                .setExpiredTime(fixedClock.millis() + 3600 * 1000)
+                .setAmount(Money.of(BigDecimal.valueOf(600), USD))
+                .setStatus(Payment.PaymentStatus.PENDING);
+    }
+
+    private Booking getBooking() {
+        return new Booking()
+                .setId(1L)
+                .setCheckInDate(LocalDateTime.of(
+                        2025, 3, 1, 14, 0))
+                .setCheckOutDate(LocalDateTime.of(
+                        2025, 3, 7, 11, 0))
+                .setStatus(Booking.Status.PENDING)
+                .setAccommodation(getAccommodation());
+    }
+
+    private Accommodation getAccommodation() {
+        return new Accommodation()
+                .setId(1L)
+                .setDailyRate(Money.of(BigDecimal.valueOf(100), USD));
+    }
+
+    private PaymentLowInfoDto getPaymentLowInfoDto(Payment payment) {
+        return new PaymentLowInfoDto(
+                payment.getId(),
+                payment.getSessionId(),
+                payment.getAmount().toBigDecimal(),
+                payment.getStatus().name());
+    }
+
+    private PaymentDto getPaymentDto(Payment payment) {
+        return new PaymentDto(
+                payment.getId(),
+                payment.getBooking().getId(),
+                payment.getSessionId(),
+                payment.getSessionUrl(),
+                payment.getAmount().toBigDecimal(),
+                payment.getStatus().name());
+    }
+
+    private PaymentWithoutSessionDto getPaymentWithoutSessionDto(Payment payment) {
+        return new PaymentWithoutSessionDto(
+                payment.getBooking().getId(),
+                payment.getStatus().name(),
+                payment.getAmount().toBigDecimal());
+    }
+
+    private GatewaySession getGatewaySession() {
+        Clock fixedClock = Clock.fixed(
+                Instant.parse("2025-03-01T00:00:00Z"),
+                ZoneOffset.UTC);
+        return new GatewaySession(
+                "session_123",
+                "http://example.com/session_123",
+                fixedClock.millis() + 3600 * 1000);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.dto.payment.PaymentDto;
+import com.example.stayfinder.model.Money;
+import com.example.stayfinder.service.payment.GatewaySession;
+import com.example.stayfinder.service.payment.PaymentGateway;
+import com.example.stayfinder.service.payment.PaymentServiceImpl;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@SpringBootTest
+class PaymentServiceTransactionTest {
+    @Autowired
+    private PaymentServiceImpl paymentService;
+    @MockitoBean
+    private PaymentGateway paymentGateway;
+
+    @BeforeAll
+    static void beforeAll(@Autowired DataSource dataSource) throws SQLException {
+        teardown(dataSource);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/roles/insert-into-roles.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/users/insert-into-users.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/accoms/insert-into-accommodations.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/bookings/insert-into-bookings.sql"));
+        }
+    }
+
+    @AfterAll
+    static void afterAll(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+    }
+
+    @SneakyThrows
+    static void teardown(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/payments/delete-all-from-payments.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/bookings/delete-all-from-bookings.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/accoms/delete-all-from-accommodations.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/users/delete-all-from-users.sql"));
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("database/roles/delete-all-from-roles.sql"));
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            Create session doesn't hold a transaction or connection during the gateway call
+            """)
+    void createSession_RemoteCall_RunsWithoutTransactionResources() throws Exception {
+        // Given
+        AtomicBoolean remoteCalled = new AtomicBoolean();
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        AtomicBoolean resourcesBound = new AtomicBoolean(true);
+        GatewaySession session = getGatewaySession();
+
+        when(paymentGateway.createSession(any(Money.class), isNull()))
+                .thenAnswer(invocation -> {
+                    remoteCalled.set(true);
+                    transactionActive.set(
+                            TransactionSynchronizationManager.isActualTransactionActive());
+                    resourcesBound.set(
+                            !TransactionSynchronizationManager.getResourceMap().isEmpty());
+                    return session;
+                });
+
+        // When
+        PaymentDto actual = paymentService.createSession(2L, null);
+
+        // Then
+        assertEquals(session.id(), actual.sessionId());
+        assertEquals("PENDING", actual.status());
+        assertTrue(remoteCalled.get());
+        assertFalse(transactionActive.get());
+        assertFalse(resourcesBound.get());
+    }
+
+    private GatewaySession getGatewaySession() {
+        return new GatewaySession(
+                "cs_test_without_transaction",
+                "https://checkout.stripe.com/c/pay/cs_test_without_transaction",
+                System.currentTimeMillis() / 1000 + 3600);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.dto.report.RevenueReportDto;
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.repository.report.RevenueRollupRepository;
+import com.example.stayfinder.service.report.ReportServiceImpl;
+import com.example.stayfinder.service.report.RevenueGrouping;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportServiceTest {
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @InjectMocks
+    private ReportServiceImpl reportService;
+    @Mock
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Test
+    @DisplayName("""
+            Get monthly revenue from the rollup repository
+            """)
+    public void getRevenue_GroupByMonth_ReturnsMonthlyRows() {
+        // Given
+        List<RevenueReportDto> expected = List.of(
+                new RevenueReportDto(FROM, null, "USD", new BigDecimal("600.00"), 2L));
+
+        when(revenueRollupRepository.sumByMonth(FROM, TO)).thenReturn(expected);
+
+        // When
+        List<RevenueReportDto> actual = reportService.getRevenue(
+                FROM, TO, RevenueGrouping.MONTH);
+
+        // Then
+        assertEquals(expected, actual);
+        verify(revenueRollupRepository).sumByMonth(FROM, TO);
+        verifyNoMoreInteractions(revenueRollupRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a revenue report whose start date is after its end date
+            """)
+    public void getRevenue_FromAfterTo_ThrowsException() {
+        // Then
+        assertThrows(DataProcessingException.class,
+                () -> reportService.getRevenue(TO, FROM, RevenueGrouping.DAY));
+        verifyNoInteractions(revenueRollupRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Reject an unsupported revenue grouping
+            """)
+    public void of_UnsupportedGrouping_ThrowsException() {
+        // Then
+        assertThrows(DataProcessingException.class, () -> RevenueGrouping.of("week"));
+    }
+}
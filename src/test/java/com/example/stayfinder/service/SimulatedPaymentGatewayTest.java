@@ -0,0 +1,134 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.exception.PaymentGatewayUnavailableException;
+import com.example.stayfinder.model.Money;
+import com.example.stayfinder.service.payment.GatewaySession;
+import com.example.stayfinder.service.payment.GatewaySessionState;
+import com.example.stayfinder.service.payment.PaymentWebhookService;
+import com.example.stayfinder.service.payment.SimulatedPaymentGateway;
+import java.math.BigDecimal;
+import java.util.Currency;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SimulatedPaymentGatewayTest {
+    private static final String WEBHOOK_SECRET = "whsec_test";
+    private static final long EVENT_DELAY = 100;
+    private static final long SESSION_TTL = 86400;
+    private static final long SESSION_RETENTION = 100;
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final Money AMOUNT = Money.of(
+            new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+    @Mock
+    private PaymentWebhookService paymentWebhookService;
+    private SimulatedPaymentGateway paymentGateway;
+
+    @AfterEach
+    void tearDown() {
+        if (paymentGateway != null) {
+            paymentGateway.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            Keep a session open until it settles and emit its completed event
+            """)
+    void createSession_CompletedSession_SettlesAsPaid() throws Exception {
+        // Given
+        startGateway(0, 1, 0, SESSION_RETENTION * 100);
+
+        // When
+        GatewaySession session = paymentGateway.createSession(AMOUNT, "key");
+
+        // Then
+        assertEquals(GatewaySessionState.OPEN, paymentGateway.getSessionState(session.id()));
+        verify(paymentWebhookService, timeout(TIMEOUT_MILLIS)).receiveEvent(
+                contains("\"type\": \"checkout.session.completed\""), startsWith("t="));
+        Thread.sleep(EVENT_DELAY);
+        assertEquals(GatewaySessionState.PAID, paymentGateway.getSessionState(session.id()));
+    }
+
+    @Test
+    @DisplayName("""
+            Settle a session that is not completed as expired
+            """)
+    void createSession_UncompletedSession_SettlesAsExpired() throws Exception {
+        // Given
+        startGateway(0, 0, 0, SESSION_RETENTION * 100);
+
+        // When
+        GatewaySession session = paymentGateway.createSession(AMOUNT, "key");
+
+        // Then
+        verify(paymentWebhookService, timeout(TIMEOUT_MILLIS)).receiveEvent(
+                contains(session.id()), startsWith("t="));
+        Thread.sleep(EVENT_DELAY);
+        assertEquals(GatewaySessionState.EXPIRED,
+                paymentGateway.getSessionState(session.id()));
+    }
+
+    @Test
+    @DisplayName("""
+            Evict a session once its retention after settling has passed
+            """)
+    void getSessionState_RetentionPassed_EvictsSession() throws Exception {
+        // Given
+        startGateway(0, 1, 1, SESSION_RETENTION);
+        GatewaySession session = paymentGateway.createSession(AMOUNT, "key");
+
+        // When
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        boolean evicted = false;
+        while (!evicted && System.currentTimeMillis() < deadline) {
+            Thread.sleep(SESSION_RETENTION);
+            try {
+                paymentGateway.getSessionState(session.id());
+            } catch (DataProcessingException e) {
+                evicted = true;
+            }
+        }
+
+        // Then
+        assertTrue(evicted);
+        verifyNoInteractions(paymentWebhookService);
+    }
+
+    @Test
+    @DisplayName("""
+            Fail session creation when the simulated provider is unavailable
+            """)
+    void createSession_ProviderFailure_ThrowsException() {
+        // Given
+        startGateway(1, 1, 0, SESSION_RETENTION);
+
+        // Then
+        assertThrows(PaymentGatewayUnavailableException.class,
+                () -> paymentGateway.createSession(AMOUNT, "key"));
+        verifyNoInteractions(paymentWebhookService);
+    }
+
+    private void startGateway(double failureRate, double completionRate,
+                              double eventLossRate, long sessionRetention) {
+        paymentGateway = new SimulatedPaymentGateway(paymentWebhookService, WEBHOOK_SECRET,
+                0, 0, failureRate, completionRate, eventLossRate,
+                EVENT_DELAY, SESSION_TTL, sessionRetention, 1);
+        paymentGateway.init();
+    }
+}
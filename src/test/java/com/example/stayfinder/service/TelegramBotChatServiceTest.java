@@ -0,0 +1,128 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.model.TelegramBotChat;
+import com.example.stayfinder.repository.telegrambotchat.TelegramBotChatRepository;
+import com.example.stayfinder.repository.user.UserRepository;
+import com.example.stayfinder.service.telegram.TelegramBotChatServiceImpl;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TelegramBotChatServiceTest {
+    @Mock
+    private TelegramBotChatRepository botRepository;
+    @Mock
+    private UserRepository userRepository;
+    private TelegramBotChatServiceImpl telegramBotChatService;
+
+    @BeforeEach
+    void setUp() {
+        telegramBotChatService = new TelegramBotChatServiceImpl(
+                botRepository, userRepository, 60_000, 100);
+    }
+
+    @Test
+    @DisplayName("""
+            Resolve chat ids in one bulk query and serve repeated lookups from the cache
+            """)
+    void findChatIdsByUserIds_RepeatedLookup_QueriesOnlyMissingUsers() {
+        // Given
+        when(botRepository.findAllByUserIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(getBotChat(100L, 1L)));
+        when(botRepository.findAllByUserIdIn(List.of(2L)))
+                .thenReturn(List.of());
+
+        // When
+        Map<Long, Long> first = telegramBotChatService.findChatIdsByUserIds(List.of(1L, 2L));
+        Map<Long, Long> second = telegramBotChatService.findChatIdsByUserIds(List.of(1L, 2L));
+
+        // Then
+        assertEquals(Map.of(1L, 100L), first);
+        assertEquals(Map.of(1L, 100L), second);
+        verify(botRepository).findAllByUserIdIn(List.of(1L, 2L));
+        verify(botRepository).findAllByUserIdIn(List.of(2L));
+        verifyNoMoreInteractions(botRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Evict the least recently used chat id once the cache is full
+            """)
+    void findChatIdsByUserIds_CacheFull_EvictsLeastRecentlyUsed() {
+        // Given
+        telegramBotChatService = new TelegramBotChatServiceImpl(
+                botRepository, userRepository, 60_000, 2);
+        when(botRepository.findAllByUserIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(getBotChat(100L, 1L), getBotChat(200L, 2L)));
+        when(botRepository.findAllByUserIdIn(List.of(3L)))
+                .thenReturn(List.of(getBotChat(300L, 3L)));
+        when(botRepository.findAllByUserIdIn(List.of(2L)))
+                .thenReturn(List.of(getBotChat(200L, 2L)));
+        telegramBotChatService.findChatIdsByUserIds(List.of(1L, 2L));
+        telegramBotChatService.findChatIdsByUserIds(List.of(1L));
+        telegramBotChatService.findChatIdsByUserIds(List.of(3L));
+
+        // When
+        Map<Long, Long> actual = telegramBotChatService.findChatIdsByUserIds(
+                List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(Map.of(1L, 100L, 2L, 200L, 3L, 300L), actual);
+        verify(botRepository).findAllByUserIdIn(List.of(1L, 2L));
+        verify(botRepository).findAllByUserIdIn(List.of(3L));
+        verify(botRepository).findAllByUserIdIn(List.of(2L));
+        verifyNoMoreInteractions(botRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Saving a chat id upserts it and refreshes the cached value
+            """)
+    void saveChatId_ExistingUser_UpsertsAndCachesChatId() {
+        // Given
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        telegramBotChatService.saveChatId(200L, 1L, null);
+        Map<Long, Long> actual = telegramBotChatService.findChatIdsByUserIds(List.of(1L));
+
+        // Then
+        assertEquals(Map.of(1L, 200L), actual);
+        verify(botRepository).upsertChatId(200L, 1L);
+        verifyNoMoreInteractions(botRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Saving a chat id with a language code stores the language on the user
+            """)
+    void saveChatId_LanguageCode_UpdatesUserLanguage() {
+        // Given
+        when(userRepository.updateAttributes(1L, Map.of("languageCode", "uk"))).thenReturn(1);
+
+        // When
+        telegramBotChatService.saveChatId(200L, 1L, "uk");
+
+        // Then
+        verify(botRepository).upsertChatId(200L, 1L);
+        verify(userRepository).updateAttributes(1L, Map.of("languageCode", "uk"));
+        verifyNoMoreInteractions(botRepository, userRepository);
+    }
+
+    private TelegramBotChat getBotChat(Long chatId, Long userId) {
+        return new TelegramBotChat()
+                .setChatId(chatId)
+                .setUserId(userId);
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.dto.notification.BroadcastDto;
+import com.example.stayfinder.dto.notification.BroadcastRequestDto;
+import com.example.stayfinder.dto.notification.BroadcastStatusUpdateRequestDto;
+import com.example.stayfinder.exception.DataProcessingException;
+import com.example.stayfinder.exception.EntityNotFoundException;
+import com.example.stayfinder.exception.TelegramMessageRejectedException;
+import com.example.stayfinder.model.BroadcastStatus;
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.repository.notification.TelegramBroadcastRepository;
+import com.example.stayfinder.repository.notification.TelegramBroadcastRepository.Broadcast;
+import com.example.stayfinder.repository.telegrambotchat.TelegramBotChatRepository;
+import com.example.stayfinder.repository.telegrambotchat.TelegramBotChatRepository.ChatRecipient;
+import com.example.stayfinder.service.telegram.TelegramBroadcastServiceImpl;
+import com.example.stayfinder.service.telegram.TelegramMessageDispatcher;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+public class TelegramBroadcastServiceTest {
+    private static final int CHUNK_SIZE = 2;
+    private static final long LEASE_TIME = 120;
+    private static final long RETRY_DELAY = 5;
+    private static final long SEND_TIMEOUT = 1000;
+    private static final Long BROADCAST_ID = 1L;
+    private static final String MESSAGE = "Hello";
+
+    @Mock
+    private TelegramBroadcastRepository telegramBroadcastRepository;
+    @Mock
+    private TelegramBotChatRepository telegramBotChatRepository;
+    @Mock
+    private TelegramMessageDispatcher telegramMessageDispatcher;
+    private TelegramBroadcastServiceImpl telegramBroadcastService;
+
+    @BeforeEach
+    void setUp() {
+        telegramBroadcastService = new TelegramBroadcastServiceImpl(
+                telegramBroadcastRepository, telegramBotChatRepository,
+                telegramMessageDispatcher, CHUNK_SIZE, LEASE_TIME, RETRY_DELAY, SEND_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("""
+            Store a new broadcast with the current number of chats
+            """)
+    void start_ValidRequest_SavesRunningBroadcast() {
+        // Given
+        when(telegramBotChatRepository.count()).thenReturn(3L);
+        when(telegramBroadcastRepository.save(MESSAGE, 3L))
+                .thenReturn(getBroadcast(BroadcastStatus.RUNNING, 0L));
+
+        // When
+        BroadcastDto actual = telegramBroadcastService.start(new BroadcastRequestDto(MESSAGE));
+
+        // Then
+        assertEquals(BROADCAST_ID, actual.id());
+        assertEquals(BroadcastStatus.RUNNING, actual.status());
+        assertEquals(3L, actual.total());
+    }
+
+    @Test
+    @DisplayName("""
+            Send the next chunk of a leased broadcast and advance its stored cursor
+            """)
+    void dispatch_LeasedBroadcast_SendsChunkAndAdvancesCursor() {
+        // Given
+        when(telegramBroadcastRepository.leaseRunning(LEASE_TIME)).thenReturn(
+                Optional.of(getBroadcast(BroadcastStatus.RUNNING, 0L)),
+                Optional.empty());
+        when(telegramBotChatRepository.findAllByIdGreaterThanOrderById(
+                0L, Limit.of(CHUNK_SIZE)))
+                .thenReturn(List.of(recipient(1L, 11L), recipient(2L, 12L)));
+        when(telegramMessageDispatcher.submit(11L, MESSAGE, NotificationPriority.BROADCAST))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(telegramMessageDispatcher.submit(12L, MESSAGE, NotificationPriority.BROADCAST))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new DataProcessingException("Bad Request: chat not found")));
+        when(telegramBroadcastRepository.advance(BROADCAST_ID, 0L, 2L, 1L, 1L, 0L))
+                .thenReturn(true);
+
+        // When
+        telegramBroadcastService.dispatch();
+
+        // Then
+        verify(telegramBroadcastRepository).advance(BROADCAST_ID, 0L, 2L, 1L, 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("""
+            Back off and resume from the last accepted chat when the dispatcher queue is full
+            """)
+    void dispatch_QueueFull_PostponesFromLastAcceptedChat() {
+        // Given
+        when(telegramBroadcastRepository.leaseRunning(LEASE_TIME)).thenReturn(
+                Optional.of(getBroadcast(BroadcastStatus.RUNNING, 0L)),
+                Optional.empty());
+        when(telegramBotChatRepository.findAllByIdGreaterThanOrderById(
+                0L, Limit.of(CHUNK_SIZE)))
+                .thenReturn(List.of(recipient(1L, 11L), recipient(2L, 12L)));
+        when(telegramMessageDispatcher.submit(11L, MESSAGE, NotificationPriority.BROADCAST))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(telegramMessageDispatcher.submit(12L, MESSAGE, NotificationPriority.BROADCAST))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new TelegramMessageRejectedException("Telegram message queue is full")));
+        when(telegramBroadcastRepository.advance(BROADCAST_ID, 0L, 1L, 1L, 0L, RETRY_DELAY))
+                .thenReturn(true);
+
+        // When
+        telegramBroadcastService.dispatch();
+
+        // Then
+        verify(telegramBroadcastRepository).advance(BROADCAST_ID, 0L, 1L, 1L, 0L, RETRY_DELAY);
+    }
+
+    @Test
+    @DisplayName("""
+            Complete a broadcast once no chats are left after its cursor
+            """)
+    void dispatch_NoChatsLeft_CompletesBroadcast() {
+        // Given
+        when(telegramBroadcastRepository.leaseRunning(LEASE_TIME)).thenReturn(
+                Optional.of(getBroadcast(BroadcastStatus.RUNNING, 5L)),
+                Optional.empty());
+        when(telegramBotChatRepository.findAllByIdGreaterThanOrderById(
+                5L, Limit.of(CHUNK_SIZE)))
+                .thenReturn(List.of());
+        when(telegramBroadcastRepository.updateStatus(BROADCAST_ID,
+                List.of(BroadcastStatus.RUNNING), BroadcastStatus.COMPLETED))
+                .thenReturn(Optional.of(getBroadcast(BroadcastStatus.COMPLETED, 5L)));
+
+        // When
+        telegramBroadcastService.dispatch();
+
+        // Then
+        verify(telegramBroadcastRepository).updateStatus(BROADCAST_ID,
+                List.of(BroadcastStatus.RUNNING), BroadcastStatus.COMPLETED);
+        verify(telegramBroadcastRepository, never()).advance(
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("""
+            Pause a running broadcast in the database
+            """)
+    void updateStatus_PauseRunningBroadcast_ReturnsPausedBroadcast() {
+        // Given
+        when(telegramBroadcastRepository.findById(BROADCAST_ID))
+                .thenReturn(Optional.of(getBroadcast(BroadcastStatus.RUNNING, 2L)));
+        when(telegramBroadcastRepository.updateStatus(BROADCAST_ID,
+                List.of(BroadcastStatus.RUNNING), BroadcastStatus.PAUSED))
+                .thenReturn(Optional.of(getBroadcast(BroadcastStatus.PAUSED, 2L)));
+
+        // When
+        BroadcastDto actual = telegramBroadcastService.updateStatus(
+                BROADCAST_ID, new BroadcastStatusUpdateRequestDto(BroadcastStatus.PAUSED));
+
+        // Then
+        assertEquals(BroadcastStatus.PAUSED, actual.status());
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a status change of a finished broadcast
+            """)
+    void updateStatus_FinishedBroadcast_ThrowsException() {
+        // Given
+        when(telegramBroadcastRepository.findById(BROADCAST_ID))
+                .thenReturn(Optional.of(getBroadcast(BroadcastStatus.COMPLETED, 5L)));
+        when(telegramBroadcastRepository.updateStatus(BROADCAST_ID,
+                List.of(BroadcastStatus.RUNNING, BroadcastStatus.PAUSED),
+                BroadcastStatus.CANCELED))
+                .thenReturn(Optional.empty());
+
+        // Then
+        assertThrows(DataProcessingException.class,
+                () -> telegramBroadcastService.updateStatus(BROADCAST_ID,
+                        new BroadcastStatusUpdateRequestDto(BroadcastStatus.CANCELED)));
+    }
+
+    @Test
+    @DisplayName("""
+            Get a broadcast by a non-existent id
+            """)
+    void getById_NonExistentId_ThrowsException() {
+        // Given
+        when(telegramBroadcastRepository.findById(42L)).thenReturn(Optional.empty());
+
+        // Then
+        assertThrows(EntityNotFoundException.class,
+                () -> telegramBroadcastService.getById(42L));
+    }
+
+    private Broadcast getBroadcast(BroadcastStatus status, long lastChatId) {
+        return new Broadcast(BROADCAST_ID, MESSAGE, status, lastChatId, 3L, 0L, 0L,
+                LocalDateTime.of(2025, 3, 1, 0, 0), null);
+    }
+
+    private ChatRecipient recipient(Long id, Long chatId) {
+        return new ChatRecipient() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getChatId() {
+                return chatId;
+            }
+        };
+    }
+}
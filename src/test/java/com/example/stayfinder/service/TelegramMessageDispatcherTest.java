@@ -0,0 +1,215 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.stayfinder.config.FakeTelegramServer;
+import com.example.stayfinder.exception.TelegramMessageRejectedException;
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.service.telegram.TelegramBot;
+import com.example.stayfinder.service.telegram.TelegramMessageDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TelegramMessageDispatcherTest {
+    private static final FakeTelegramServer TELEGRAM_SERVER = FakeTelegramServer.getInstance();
+    private static final int SEND_THREADS = 4;
+    private static final double CHAT_RATE = 100;
+    private static final long RETRY_DELAY = 200;
+    private static final long MAX_RETRY_DELAY = 400;
+    private static final String TOO_MANY_REQUESTS = """
+            {"ok":false,"error_code":429,"description":"Too Many Requests: retry after 1",\
+            "parameters":{"retry_after":1}}""";
+    private static final String BAD_GATEWAY = """
+            {"ok":false,"error_code":502,"description":"Bad Gateway"}""";
+    private static final String MESSAGE_SENT = """
+            {"ok":true,"result":{"message_id":1,"date":0,"chat":{"id":1,"type":"private"}}}""";
+    private MeterRegistry meterRegistry;
+    private TelegramMessageDispatcher telegramMessageDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        TELEGRAM_SERVER.reset();
+        meterRegistry = new SimpleMeterRegistry();
+        TelegramBot telegramBot = new TelegramBot(
+                "test_bot", "test-token", TELEGRAM_SERVER.getApiUrl());
+        telegramMessageDispatcher = new TelegramMessageDispatcher(
+                telegramBot, meterRegistry, 10, 30, CHAT_RATE, 3, RETRY_DELAY, MAX_RETRY_DELAY,
+                SEND_THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        telegramMessageDispatcher.shutdown();
+        TELEGRAM_SERVER.reset();
+    }
+
+    @Test
+    @DisplayName("""
+            Retry a message after the retry_after period when Telegram answers 429
+            """)
+    void submit_TooManyRequests_RetriesAfterPause() throws Exception {
+        // Given
+        TELEGRAM_SERVER.enqueueResponse(429, TOO_MANY_REQUESTS, 0);
+        telegramMessageDispatcher.init();
+
+        // When
+        long startedAt = System.nanoTime();
+        CompletableFuture<Void> result = telegramMessageDispatcher.submit(
+                100L, "Message", NotificationPriority.TRANSACTIONAL);
+
+        // Then
+        result.get(5, TimeUnit.SECONDS);
+        assertTrue(System.nanoTime() - startedAt >= TimeUnit.SECONDS.toNanos(1));
+        assertNotNull(TELEGRAM_SERVER.takeRequest("sendMessage"));
+        FakeTelegramServer.ApiRequest retry = TELEGRAM_SERVER.takeRequest("sendMessage");
+        assertNotNull(retry);
+        assertTrue(retry.body().contains("Message"));
+        assertEquals(1.0, meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "sent").count());
+        assertEquals(1.0, meterRegistry.counter("telegram.dispatcher.throttled").count());
+        assertEquals(0.0, meterRegistry.counter("telegram.dispatcher.retried").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Retry a message with backoff when Telegram answers with a server error
+            """)
+    void submit_ServerError_RetriesWithBackoff() throws Exception {
+        // Given
+        TELEGRAM_SERVER.enqueueResponse(502, BAD_GATEWAY, 0);
+        telegramMessageDispatcher.init();
+
+        // When
+        long startedAt = System.nanoTime();
+        CompletableFuture<Void> result = telegramMessageDispatcher.submit(
+                100L, "Message", NotificationPriority.TRANSACTIONAL);
+
+        // Then
+        result.get(5, TimeUnit.SECONDS);
+        assertTrue(System.nanoTime() - startedAt
+                >= TimeUnit.MILLISECONDS.toNanos(RETRY_DELAY / 2));
+        assertNotNull(TELEGRAM_SERVER.takeRequest("sendMessage"));
+        assertNotNull(TELEGRAM_SERVER.takeRequest("sendMessage"));
+        assertEquals(1.0, meterRegistry.counter("telegram.dispatcher.retried").count());
+        assertEquals(1.0, meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "sent").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Fail a message once Telegram keeps answering with server errors
+            """)
+    void submit_ServerErrorOnEveryAttempt_FailsMessage() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            TELEGRAM_SERVER.enqueueResponse(502, BAD_GATEWAY, 0);
+        }
+        telegramMessageDispatcher.init();
+
+        // When
+        long startedAt = System.nanoTime();
+        CompletableFuture<Void> result = telegramMessageDispatcher.submit(
+                100L, "Message", NotificationPriority.TRANSACTIONAL);
+
+        // Then
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - startedAt
+                >= TimeUnit.MILLISECONDS.toNanos((RETRY_DELAY + MAX_RETRY_DELAY) / 2));
+        assertEquals(2.0, meterRegistry.counter("telegram.dispatcher.retried").count());
+        assertEquals(1.0, meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "failed").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Send messages to different chats concurrently on the send pool
+            """)
+    void submit_SlowResponses_SendsConcurrently() throws Exception {
+        // Given
+        for (int i = 0; i < SEND_THREADS; i++) {
+            TELEGRAM_SERVER.enqueueResponse(200, MESSAGE_SENT, 500);
+        }
+        telegramMessageDispatcher.init();
+
+        // When
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> results = LongStream.rangeClosed(1, SEND_THREADS)
+                .mapToObj(chatId -> telegramMessageDispatcher.submit(
+                        chatId, "Message", NotificationPriority.TRANSACTIONAL))
+                .toList();
+
+        // Then
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .get(5, TimeUnit.SECONDS);
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.MILLISECONDS.toNanos(1500));
+        assertEquals(SEND_THREADS, meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "sent").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Drop a queued message whose result was canceled before it was sent
+            """)
+    void submit_CanceledMessage_SkipsSend() throws Exception {
+        // Given
+        CompletableFuture<Void> canceled = telegramMessageDispatcher.submit(
+                100L, "Canceled", NotificationPriority.TRANSACTIONAL);
+        CompletableFuture<Void> result = telegramMessageDispatcher.submit(
+                200L, "Delivered", NotificationPriority.TRANSACTIONAL);
+        canceled.cancel(false);
+
+        // When
+        telegramMessageDispatcher.init();
+
+        // Then
+        result.get(5, TimeUnit.SECONDS);
+        FakeTelegramServer.ApiRequest request = TELEGRAM_SERVER.takeRequest("sendMessage");
+        assertNotNull(request);
+        assertTrue(request.body().contains("Delivered"));
+        assertEquals(1.0, meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "canceled").count());
+        assertEquals(1.0, meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "sent").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Reject a message when the in-memory queue is full
+            """)
+    void submit_QueueFull_RejectsMessage() throws Exception {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            TELEGRAM_SERVER.enqueueResponse(200, MESSAGE_SENT, 200);
+        }
+        telegramMessageDispatcher.init();
+        List<CompletableFuture<Void>> queued = LongStream.rangeClosed(1, 10)
+                .mapToObj(chatId -> telegramMessageDispatcher.submit(
+                        chatId, "Message", NotificationPriority.BROADCAST))
+                .toList();
+
+        // When
+        CompletableFuture<Void> result = telegramMessageDispatcher.submit(
+                200L, "Second", NotificationPriority.BROADCAST);
+
+        // Then
+        CompletableFuture.allOf(queued.toArray(CompletableFuture[]::new))
+                .get(5, TimeUnit.SECONDS);
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(TelegramMessageRejectedException.class, exception.getCause());
+        assertEquals(1.0, meterRegistry.counter(
+                "telegram.dispatcher.messages", "result", "rejected").count());
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.stayfinder.service;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.stayfinder.model.NotificationPriority;
+import com.example.stayfinder.repository.user.UserRepository;
+import com.example.stayfinder.service.telegram.TelegramBotChatService;
+import com.example.stayfinder.service.telegram.TelegramMessageDispatcher;
+import com.example.stayfinder.service.telegram.TelegramUpdateHandler;
+import com.example.stayfinder.service.telegram.UnknownEmailCache;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+@ExtendWith(MockitoExtension.class)
+public class TelegramUpdateHandlerTest {
+    private static final String EMAIL_REGEX = "^[\\w.+-]+@[\\w-]+\\.[\\w.]+$";
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TelegramBotChatService telegramBotChatService;
+    @Mock
+    private TelegramMessageDispatcher telegramMessageDispatcher;
+    private UnknownEmailCache unknownEmailCache;
+    private TelegramUpdateHandler telegramUpdateHandler;
+
+    @BeforeEach
+    void setUp() {
+        unknownEmailCache = new UnknownEmailCache(600_000, 100);
+        telegramUpdateHandler = new TelegramUpdateHandler(userRepository,
+                telegramBotChatService, telegramMessageDispatcher, unknownEmailCache, EMAIL_REGEX);
+    }
+
+    @Test
+    @DisplayName("""
+            Greet the user on the /start command
+            """)
+    void handle_StartCommand_RepliesWithGreeting() {
+        // When
+        telegramUpdateHandler.handle(getUpdate(7L, "/start"));
+
+        // Then
+        verify(telegramMessageDispatcher).submit(7L, "Hi, John! You have successfully "
+                + "started using the chat. Please enter your registered email.",
+                NotificationPriority.TRANSACTIONAL);
+        verifyNoInteractions(userRepository, telegramBotChatService);
+    }
+
+    @Test
+    @DisplayName("""
+            Look up a registered email on every message so an email change is never missed
+            """)
+    void handle_RegisteredEmailTwice_QueriesUserEachTime() {
+        // Given
+        when(userRepository.findIdByEmail("john@example.com")).thenReturn(Optional.of(1L));
+
+        // When
+        telegramUpdateHandler.handle(getUpdate(7L, "john@example.com"));
+        telegramUpdateHandler.handle(getUpdate(8L, "john@example.com"));
+
+        // Then
+        verify(userRepository, times(2)).findIdByEmail("john@example.com");
+        verify(telegramBotChatService).saveChatId(7L, 1L, null);
+        verify(telegramBotChatService).saveChatId(8L, 1L, null);
+        verify(telegramMessageDispatcher).submit(7L,
+                "Thank you! Now you will receive project notifications here.",
+                NotificationPriority.TRANSACTIONAL);
+        verifyNoMoreInteractions(userRepository, telegramBotChatService);
+    }
+
+    @Test
+    @DisplayName("""
+            Serve repeated lookups of an unknown email from the cache
+            """)
+    void handle_UnknownEmailTwice_QueriesUserOnce() {
+        // Given
+        when(userRepository.findIdByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+        // When
+        telegramUpdateHandler.handle(getUpdate(7L, "nobody@example.com"));
+        telegramUpdateHandler.handle(getUpdate(7L, "nobody@example.com"));
+
+        // Then
+        verify(userRepository).findIdByEmail("nobody@example.com");
+        verify(telegramMessageDispatcher, times(2)).submit(7L,
+                "No user found with this email, please try again.",
+                NotificationPriority.TRANSACTIONAL);
+        verifyNoInteractions(telegramBotChatService);
+    }
+
+    @Test
+    @DisplayName("""
+            Look up an unknown email again once it was evicted after a registration
+            """)
+    void handle_EvictedUnknownEmail_QueriesUserAgain() {
+        // Given
+        when(userRepository.findIdByEmail("john@example.com"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(1L));
+        telegramUpdateHandler.handle(getUpdate(7L, "john@example.com"));
+
+        // When
+        unknownEmailCache.evict("john@example.com");
+        telegramUpdateHandler.handle(getUpdate(7L, "john@example.com"));
+
+        // Then
+        verify(userRepository, times(2)).findIdByEmail("john@example.com");
+        verify(telegramBotChatService).saveChatId(7L, 1L, null);
+    }
+
+    private Update getUpdate(Long chatId, String text) {
+        Chat chat = new Chat(chatId, "private");
+        chat.setFirstName("John");
+        Message message = new Message();
+        message.setChat(chat);
+        message.setText(text);
+        Update update = new Update();
+        update.setMessage(message);
+        return update;
+    }
+}
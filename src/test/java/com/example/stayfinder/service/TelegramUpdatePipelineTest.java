@@ -0,0 +1,144 @@
+package com.example.stayfinder.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.example.stayfinder.service.telegram.TelegramUpdateHandler;
+import com.example.stayfinder.service.telegram.TelegramUpdatePipeline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+@ExtendWith(MockitoExtension.class)
+public class TelegramUpdatePipelineTest {
+    @Mock
+    private TelegramUpdateHandler telegramUpdateHandler;
+    private MeterRegistry meterRegistry;
+    private TelegramUpdatePipeline telegramUpdatePipeline;
+    private boolean started;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        telegramUpdatePipeline = new TelegramUpdatePipeline(
+                telegramUpdateHandler, meterRegistry, 4, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (started) {
+            telegramUpdatePipeline.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            Handle updates of the same chat in the order they were received
+            """)
+    void put_SameChat_HandlesUpdatesInOrder() throws Exception {
+        // Given
+        List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(5);
+        doAnswer(invocation -> {
+            handled.add(invocation.getArgument(0, Update.class).getUpdateId());
+            latch.countDown();
+            return null;
+        }).when(telegramUpdateHandler).handle(any(Update.class));
+        start();
+
+        // When
+        for (int updateId = 1; updateId <= 5; updateId++) {
+            telegramUpdatePipeline.put(getUpdate(updateId, 7L));
+        }
+
+        // Then
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3, 4, 5), handled);
+    }
+
+    @Test
+    @DisplayName("""
+            Skip an update whose update_id was already received
+            """)
+    void offer_DuplicateUpdateId_HandlesUpdateOnce() throws Exception {
+        // Given
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(telegramUpdateHandler).handle(any(Update.class));
+        start();
+        Update update = getUpdate(1, 7L);
+
+        // When
+        boolean first = telegramUpdatePipeline.offer(update);
+        boolean second = telegramUpdatePipeline.offer(update);
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        verify(telegramUpdateHandler).handle(update);
+        assertEquals(1.0, meterRegistry.counter(
+                "telegram.updates", "result", "duplicate").count());
+    }
+
+    @Test
+    @DisplayName("""
+            Reject an update when its chat partition is full and accept it again later
+            """)
+    void offer_FullPartition_RejectsUpdate() {
+        // Given
+        Update accepted = getUpdate(1, 7L);
+        Update rejected = getUpdate(2, 7L);
+
+        // When
+        boolean first = telegramUpdatePipeline.offer(accepted);
+        boolean second = telegramUpdatePipeline.offer(rejected);
+        boolean retried = telegramUpdatePipeline.offer(rejected);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertFalse(retried);
+        assertEquals(2.0, meterRegistry.counter(
+                "telegram.updates", "result", "rejected").count());
+        assertEquals(0.0, meterRegistry.counter(
+                "telegram.updates", "result", "duplicate").count());
+        verifyNoInteractions(telegramUpdateHandler);
+    }
+
+    private void start() {
+        telegramUpdatePipeline.init();
+        started = true;
+    }
+
+    private Update getUpdate(int updateId, Long chatId) {
+        Message message = new Message();
+        message.setChat(new Chat(chatId, "private"));
+        message.setText("/start");
+        Update update = new Update();
+        update.setUpdateId(updateId);
+        update.setMessage(message);
+        return update;
+    }
+}
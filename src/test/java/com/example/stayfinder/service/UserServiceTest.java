@@ -2,22 +2,29 @@ package com.example.stayfinder.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.example.stayfinder.dto.user.UserProfilePatchRequestDto;
 import com.example.stayfinder.dto.user.UserRegisterRequestDto;
 import com.example.stayfinder.dto.user.UserResponseDto;
 import com.example.stayfinder.exception.EntityNotFoundException;
 import com.example.stayfinder.exception.RegistrationException;
 import com.example.stayfinder.mapper.UserMapper;
+import com.example.stayfinder.model.NotificationChannel;
 import com.example.stayfinder.model.Role;
 import com.example.stayfinder.model.User;
-import com.example.stayfinder.repository.role.RoleRepository;
 import com.example.stayfinder.repository.user.UserRepository;
+import com.example.stayfinder.security.BasicCredentialCache;
+import com.example.stayfinder.service.role.RoleRegistry;
+import com.example.stayfinder.service.telegram.UnknownEmailCache;
 import com.example.stayfinder.service.user.UserServiceImpl;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
@@ -37,9 +44,13 @@ public class UserServiceTest {
     @Mock
     private UserMapper userMapper;
     @Mock
-    private RoleRepository roleRepository;
+    private RoleRegistry roleRegistry;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private BasicCredentialCache basicCredentialCache;
+    @Mock
+    private UnknownEmailCache unknownEmailCache;
 
     @Test
     @DisplayName("""
@@ -55,7 +66,7 @@ public class UserServiceTest {
 
         when(userRepository.findByUsername(requestDto.username()))
                 .thenReturn(Optional.empty());
-        when(roleRepository.findAllByNameContaining(Set.of(Role.RoleName.USER)))
+        when(roleRegistry.getRoles(Set.of(Role.RoleName.USER)))
                 .thenReturn(Set.of(getUserRole()));
         when(userMapper.toEntity(requestDto)).thenReturn(userFromDto);
         when(passwordEncoder.encode(requestDto.password()))
@@ -69,13 +80,14 @@ public class UserServiceTest {
         //Then
         assertEquals(expected, actual);
         verify(userRepository).findByUsername(requestDto.username());
-        verify(roleRepository).findAllByNameContaining(Set.of(Role.RoleName.USER));
+        verify(roleRegistry).getRoles(Set.of(Role.RoleName.USER));
         verify(userMapper).toEntity(requestDto);
         verify(passwordEncoder).encode(requestDto.password());
         verify(userRepository).save(userFromDto);
+        verify(unknownEmailCache).evict(requestDto.email());
         verify(userMapper).toDto(savedUser);
         verifyNoMoreInteractions(
-                userRepository, roleRepository, userMapper, passwordEncoder);
+                userRepository, roleRegistry, userMapper, passwordEncoder);
     }
 
     @Test
@@ -109,7 +121,7 @@ public class UserServiceTest {
         UserResponseDto expected = getUserResponseDto();
 
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(roleRepository.findAllByNameContaining(roleNamesSet)).thenReturn(roles);
+        when(roleRegistry.getRoles(roleNamesSet)).thenReturn(roles);
         when(userRepository.save(user)).thenReturn(user);
         when(userMapper.toDto(user)).thenReturn(expected);
 
@@ -119,10 +131,10 @@ public class UserServiceTest {
         //Then
         assertEquals(expected, actual);
         verify(userRepository).findById(user.getId());
-        verify(roleRepository).findAllByNameContaining(roleNamesSet);
+        verify(roleRegistry).getRoles(roleNamesSet);
         verify(userRepository).save(user);
         verify(userMapper).toDto(user);
-        verifyNoMoreInteractions(userRepository, roleRepository, userMapper);
+        verifyNoMoreInteractions(userRepository, roleRegistry, userMapper);
     }
 
     @Test
@@ -183,8 +195,10 @@ public class UserServiceTest {
         // Then
         assertEquals(expected, actual);
         verify(userRepository).findById(user.getId());
+        verify(basicCredentialCache).evict("username");
         verify(userMapper).updateEntityFromDto(user, updateDto);
         verify(passwordEncoder).encode(updateDto.password());
+        verify(unknownEmailCache).evict(updateDto.email());
         verify(userRepository).save(user);
         verify(userMapper).toDto(user);
         verifyNoMoreInteractions(userMapper, userRepository, passwordEncoder);
@@ -208,6 +222,138 @@ public class UserServiceTest {
         verifyNoMoreInteractions(userMapper, passwordEncoder, userRepository);
     }
 
+    @Test
+    @DisplayName("""
+            Patch only changed profile fields without re-hashing the password
+            """)
+    public void patchProfile_ChangedNameOnly_UpdatesChangedColumns() {
+        // Given
+        User user = getUser();
+        UserProfilePatchRequestDto patchDto = new UserProfilePatchRequestDto(
+                "username", null, null, null, "Johnny", null, null);
+        UserResponseDto expected = getUserResponseDto();
+
+        when(userRepository.updateAttributes(user.getId(), Map.of("firstName", "Johnny")))
+                .thenReturn(1);
+        doNothing().when(userMapper).patchEntityFromDto(user, patchDto);
+        when(userMapper.toDto(user)).thenReturn(expected);
+
+        // When
+        UserResponseDto actual = userService.patchProfile(user, patchDto);
+
+        // Then
+        assertEquals(expected, actual);
+        verify(userRepository).updateAttributes(user.getId(), Map.of("firstName", "Johnny"));
+        verify(basicCredentialCache).evict("username");
+        verify(unknownEmailCache, never()).evict(anyString());
+        verify(passwordEncoder, never()).encode(anyString());
+        verifyNoMoreInteractions(userRepository, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("""
+            Patch profile re-hashes the password only when a new one is supplied
+            """)
+    public void patchProfile_NewPassword_UpdatesEncodedPassword() {
+        // Given
+        User user = getUser();
+        UserProfilePatchRequestDto patchDto = new UserProfilePatchRequestDto(
+                null, "newPassword1", "newPassword1", null, null, null, null);
+        UserResponseDto expected = getUserResponseDto();
+
+        when(passwordEncoder.encode("newPassword1")).thenReturn("newEncodedPassword");
+        when(userRepository.updateAttributes(
+                user.getId(), Map.of("password", "newEncodedPassword"))).thenReturn(1);
+        when(userMapper.toDto(user)).thenReturn(expected);
+
+        // When
+        UserResponseDto actual = userService.patchProfile(user, patchDto);
+
+        // Then
+        assertEquals(expected, actual);
+        assertEquals("newEncodedPassword", user.getPassword());
+        verify(userRepository).updateAttributes(
+                user.getId(), Map.of("password", "newEncodedPassword"));
+        verify(basicCredentialCache).evict("username");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Patch profile issues no update when nothing changed
+            """)
+    public void patchProfile_NoChanges_SkipsUpdate() {
+        // Given
+        User user = getUser();
+        UserProfilePatchRequestDto patchDto = new UserProfilePatchRequestDto(
+                "username", null, null, "email@example.com", null, null, null);
+        UserResponseDto expected = getUserResponseDto();
+
+        when(userMapper.toDto(user)).thenReturn(expected);
+
+        // When
+        UserResponseDto actual = userService.patchProfile(user, patchDto);
+
+        // Then
+        assertEquals(expected, actual);
+        verifyNoMoreInteractions(
+                userRepository, basicCredentialCache, unknownEmailCache, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("""
+            Patch profile evicts the new email from the unknown email cache
+            """)
+    public void patchProfile_NewEmail_EvictsUnknownEmail() {
+        // Given
+        User user = getUser();
+        UserProfilePatchRequestDto patchDto = new UserProfilePatchRequestDto(
+                null, null, null, "new@example.com", null, null, null);
+        UserResponseDto expected = getUserResponseDto();
+
+        when(userRepository.updateAttributes(user.getId(), Map.of("email", "new@example.com")))
+                .thenReturn(1);
+        doNothing().when(userMapper).patchEntityFromDto(user, patchDto);
+        when(userMapper.toDto(user)).thenReturn(expected);
+
+        // When
+        UserResponseDto actual = userService.patchProfile(user, patchDto);
+
+        // Then
+        assertEquals(expected, actual);
+        verify(userRepository).updateAttributes(user.getId(), Map.of("email", "new@example.com"));
+        verify(basicCredentialCache).evict("username");
+        verify(unknownEmailCache).evict("new@example.com");
+        verifyNoMoreInteractions(userRepository, unknownEmailCache);
+    }
+
+    @Test
+    @DisplayName("""
+            Patch profile stores a new notification channel preference
+            """)
+    public void patchProfile_NewNotificationChannel_UpdatesPreference() {
+        // Given
+        User user = getUser();
+        UserProfilePatchRequestDto patchDto = new UserProfilePatchRequestDto(
+                null, null, null, null, null, null, NotificationChannel.EMAIL);
+        UserResponseDto expected = getUserResponseDto();
+
+        when(userRepository.updateAttributes(
+                user.getId(), Map.of("notificationChannel", NotificationChannel.EMAIL)))
+                .thenReturn(1);
+        doNothing().when(userMapper).patchEntityFromDto(user, patchDto);
+        when(userMapper.toDto(user)).thenReturn(expected);
+
+        // When
+        UserResponseDto actual = userService.patchProfile(user, patchDto);
+
+        // Then
+        assertEquals(expected, actual);
+        verify(userRepository).updateAttributes(
+                user.getId(), Map.of("notificationChannel", NotificationChannel.EMAIL));
+        verifyNoMoreInteractions(userRepository, passwordEncoder);
+    }
+
     private UserRegisterRequestDto getUserRegisterRequestDto() {
         return new UserRegisterRequestDto(
                 "john.doe",
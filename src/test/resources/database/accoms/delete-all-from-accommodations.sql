@@ -1,3 +1,4 @@
+DELETE FROM revenue_daily_rollups;
 DELETE FROM accommodation_amenities;
 DELETE FROM accommodations;
 DELETE FROM addresses
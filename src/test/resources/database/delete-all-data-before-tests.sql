@@ -1,8 +1,14 @@
+DELETE FROM notification_outbox;
+DELETE FROM notification_dead_letters;
+DELETE FROM telegram_broadcasts;
+DELETE FROM revenue_daily_rollups;
 DELETE FROM telegram_bot_chats;
+DELETE FROM payment_webhook_events;
 DELETE FROM payments;
 DELETE FROM bookings;
 DELETE FROM accommodation_amenities;
 DELETE FROM accommodations;
+DELETE FROM refresh_tokens;
 DELETE FROM users_roles;
 DELETE FROM users;
 DELETE FROM roles;
@@ -1 +1,2 @@
+DELETE FROM payment_webhook_events;
 DELETE FROM payments;
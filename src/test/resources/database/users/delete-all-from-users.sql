@@ -1,2 +1,3 @@
+DELETE FROM refresh_tokens;
 DELETE FROM users_roles;
 DELETE FROM users;